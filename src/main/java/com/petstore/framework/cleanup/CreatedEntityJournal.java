@@ -0,0 +1,224 @@
+package com.petstore.framework.cleanup;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Run-scoped, memory-mapped journal of entities created (and deleted) on the backend
+ * Records are written straight into the mapped page cache. There is no fsync; the pages
+ * survive a killed JVM, which is the failure this journal exists for.
+ *
+ * Record layout: [marker:1][keyLength:2][key:n]. A slot is reserved and its length
+ * stamped under a short lock, so a zero length always marks the end of the records.
+ * Key and marker (operation + entity type) are written outside the lock, marker last,
+ * so a record torn by a crash reads as marker 0 and is skipped by its length.
+ *
+ * The file is created and locked under a temporary name and renamed into place only
+ * once it carries its header. The owning JVM holds the exclusive lock for the journal's
+ * lifetime, which lets {@link OrphanSweeper} tell leftover journals of dead runs from live ones.
+ */
+@Slf4j
+public final class CreatedEntityJournal {
+
+    static final String FILE_SUFFIX = ".journal";
+    static final String TEMP_SUFFIX = ".journal.tmp";
+
+    static final int MAGIC = 0x50534A31; // "PSJ1"
+    static final int HEADER_SIZE = Integer.BYTES;
+    static final int RECORD_HEADER_SIZE = 1 + Short.BYTES;
+    static final int OP_CREATED = 1;
+    static final int OP_DELETED = 2;
+
+    private static final Map<String, CreatedEntityJournal> JOURNALS = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final FileLock lock;
+    private final MappedByteBuffer buffer;
+    private final Object reservation = new Object();
+    private int position = HEADER_SIZE;
+    private final AtomicBoolean overflowReported = new AtomicBoolean();
+    private volatile boolean closed;
+
+    private CreatedEntityJournal(Path file, FileChannel channel, FileLock lock, MappedByteBuffer buffer) {
+        this.file = file;
+        this.channel = channel;
+        this.lock = lock;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Create, lock and initialize a journal, publishing it under {@code <runId>.journal} only when complete
+     */
+    static CreatedEntityJournal create(Path dir, String runId, int capacityBytes) throws IOException {
+        Path temp = dir.resolve(runId + TEMP_SUFFIX);
+        Path file = dir.resolve(runId + FILE_SUFFIX);
+        FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            FileLock lock = channel.lock();
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacityBytes);
+            buffer.putInt(0, MAGIC);
+            // The lock belongs to the open file, not its name, so it holds across the rename
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            return new CreatedEntityJournal(file, channel, lock, buffer);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * Journal of the current run for an environment, opened on first use
+     */
+    public static CreatedEntityJournal forEnvironment(String environment) {
+        return JOURNALS.computeIfAbsent(environment, CreatedEntityJournal::open);
+    }
+
+    /**
+     * Close all journals of this run; a journal with no outstanding entities is deleted
+     */
+    public static void closeAll() {
+        JOURNALS.values().forEach(CreatedEntityJournal::close);
+        JOURNALS.clear();
+    }
+
+    /**
+     * Directory holding the journals of an environment (-Dentity.journal.dir, default .entity-journal)
+     */
+    static Path directory(String environment) {
+        return Paths.get(System.getProperty("entity.journal.dir", ".entity-journal"), environment);
+    }
+
+    private static CreatedEntityJournal open(String environment) {
+        int capacityMb = Integer.getInteger("entity.journal.size.mb", 8);
+        try {
+            Path dir = Files.createDirectories(directory(environment));
+            String runId = ManagementFactory.getRuntimeMXBean().getPid() + "-" + System.currentTimeMillis();
+            CreatedEntityJournal journal = create(dir, runId, capacityMb * 1024 * 1024);
+            log.debug("Opened created-entity journal: {}", journal.getFile());
+            return journal;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open created-entity journal for " + environment, e);
+        }
+    }
+
+    public void created(EntityType type, Object key) {
+        append(OP_CREATED, type, key);
+    }
+
+    public void deleted(EntityType type, Object key) {
+        append(OP_DELETED, type, key);
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    private void append(int operation, EntityType type, Object key) {
+        byte[] keyBytes = key != null ? key.toString().getBytes(StandardCharsets.UTF_8) : new byte[0];
+        if (keyBytes.length == 0) {
+            return;
+        }
+        int size = RECORD_HEADER_SIZE + keyBytes.length;
+        int offset;
+        synchronized (reservation) {
+            offset = position;
+            if (closed || offset + size > buffer.capacity()) {
+                offset = -1;
+            } else {
+                position += size;
+                // Stamped before the slot is released, so no later record follows a zero length
+                buffer.putShort(offset + 1, (short) keyBytes.length);
+            }
+        }
+        if (offset < 0) {
+            if (overflowReported.compareAndSet(false, true)) {
+                log.warn("Created-entity journal {} is full or closed, further entities are not journaled", file);
+            }
+            return;
+        }
+        buffer.put(offset + RECORD_HEADER_SIZE, keyBytes);
+        buffer.put(offset, (byte) (operation << 4 | type.code()));
+    }
+
+    synchronized void close() {
+        synchronized (reservation) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        Map<EntityType, Set<String>> outstanding = readOutstanding(buffer);
+        try {
+            lock.release();
+            channel.close();
+            if (outstanding.isEmpty()) {
+                Files.deleteIfExists(file);
+            } else {
+                log.info("Created-entity journal {} keeps {} undeleted entities for the next sweep",
+                        file, count(outstanding));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to close created-entity journal {}", file, e);
+        }
+    }
+
+    /**
+     * Entities created but not deleted according to a journal's content
+     */
+    static Map<EntityType, Set<String>> readOutstanding(ByteBuffer journal) {
+        Map<EntityType, Set<String>> outstanding = new EnumMap<>(EntityType.class);
+        if (journal.capacity() < HEADER_SIZE || journal.getInt(0) != MAGIC) {
+            return outstanding;
+        }
+        int offset = HEADER_SIZE;
+        while (offset + RECORD_HEADER_SIZE <= journal.capacity()) {
+            int keyLength = journal.getShort(offset + 1) & 0xFFFF;
+            if (keyLength == 0 || offset + RECORD_HEADER_SIZE + keyLength > journal.capacity()) {
+                // End of the reserved records
+                break;
+            }
+            int marker = journal.get(offset);
+            if (marker != 0) {
+                byte[] keyBytes = new byte[keyLength];
+                journal.get(offset + RECORD_HEADER_SIZE, keyBytes);
+                String key = new String(keyBytes, StandardCharsets.UTF_8);
+                Set<String> keys = outstanding.computeIfAbsent(
+                        EntityType.fromCode(marker & 0x0F), type -> new LinkedHashSet<>());
+                if (marker >> 4 == OP_CREATED) {
+                    keys.add(key);
+                } else {
+                    keys.remove(key);
+                }
+            }
+            offset += RECORD_HEADER_SIZE + keyLength;
+        }
+        outstanding.values().removeIf(Set::isEmpty);
+        return outstanding;
+    }
+
+    static int count(Map<EntityType, Set<String>> entities) {
+        return entities.values().stream().mapToInt(Set::size).sum();
+    }
+}
@@ -0,0 +1,22 @@
+package com.petstore.framework.cleanup;
+
+/**
+ * Kinds of backend entities tracked by the {@link CreatedEntityJournal}
+ */
+public enum EntityType {
+    PET,
+    ORDER,
+    USER;
+
+    byte code() {
+        return (byte) (ordinal() + 1);
+    }
+
+    static EntityType fromCode(int code) {
+        EntityType[] types = values();
+        if (code < 1 || code > types.length) {
+            throw new IllegalArgumentException("Unknown entity type code: " + code);
+        }
+        return types[code - 1];
+    }
+}
@@ -0,0 +1,157 @@
+package com.petstore.framework.cleanup;
+
+import com.petstore.framework.services.PetService;
+import com.petstore.framework.services.StoreService;
+import com.petstore.framework.services.UserService;
+import com.petstore.framework.utils.WarmUpScope;
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Deletes entities left behind by runs that died before their cleanup
+ * Reads every journal of the environment that is not locked by a live JVM and
+ * deletes its outstanding entities concurrently. A journal is removed once all
+ * of its entities are gone (deleted now or already missing on the backend).
+ * Its deletes run in a {@link WarmUpScope}, so they stay out of metrics and the latency gate.
+ */
+@Slf4j
+public final class OrphanSweeper {
+
+    private final String environment;
+    private final int concurrency;
+    private final PetService petService;
+    private final StoreService storeService;
+    private final UserService userService;
+
+    public OrphanSweeper(String environment, int concurrency) {
+        this.environment = environment;
+        this.concurrency = concurrency;
+        this.petService = PetService.forEnvironment(environment);
+        this.storeService = StoreService.forEnvironment(environment);
+        this.userService = UserService.forEnvironment(environment);
+    }
+
+    /**
+     * Sweep all leftover journals of the environment
+     *
+     * @return number of entities deleted
+     */
+    public int sweep() {
+        Path dir = CreatedEntityJournal.directory(environment);
+        if (!Files.isDirectory(dir)) {
+            return 0;
+        }
+
+        List<Path> journals;
+        try (Stream<Path> files = Files.list(dir)) {
+            journals = files.collect(Collectors.toList());
+        } catch (IOException e) {
+            log.warn("Unable to list created-entity journals in {}", dir, e);
+            return 0;
+        }
+        journals.stream()
+                .filter(f -> f.toString().endsWith(CreatedEntityJournal.TEMP_SUFFIX))
+                .forEach(this::deleteAbandoned);
+        journals.removeIf(f -> !f.toString().endsWith(CreatedEntityJournal.FILE_SUFFIX));
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "orphan-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            return journals.stream().mapToInt(journal -> sweep(journal, executor)).sum();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int sweep(Path journal, ExecutorService executor) {
+        try (FileChannel channel = FileChannel.open(journal, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                FileLock lock = channel.tryLock()) {
+            if (lock == null) {
+                log.debug("Journal {} belongs to a running JVM, skipping", journal);
+                return 0;
+            }
+
+            Map<EntityType, Set<String>> outstanding = CreatedEntityJournal.readOutstanding(
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            log.info("Sweeping {} orphaned entities from {}", CreatedEntityJournal.count(outstanding), journal);
+
+            List<CompletableFuture<Boolean>> deletions = new ArrayList<>();
+            outstanding.forEach((type, keys) -> keys.forEach(key -> deletions.add(
+                    CompletableFuture.supplyAsync(() -> delete(type, key), executor))));
+            long failures = deletions.stream().map(CompletableFuture::join).filter(deleted -> !deleted).count();
+
+            if (failures == 0) {
+                Files.delete(journal);
+            } else {
+                log.warn("{} orphaned entities from {} could not be deleted, keeping it for the next sweep",
+                        failures, journal);
+            }
+            return deletions.size() - (int) failures;
+        } catch (OverlappingFileLockException e) {
+            // Journal of this JVM
+            return 0;
+        } catch (IOException e) {
+            log.warn("Unable to sweep created-entity journal {}", journal, e);
+            return 0;
+        }
+    }
+
+    /**
+     * Remove a journal that a dead JVM created but never published; it holds no records
+     */
+    private void deleteAbandoned(Path temp) {
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                FileLock lock = channel.tryLock()) {
+            if (lock != null) {
+                Files.delete(temp);
+            }
+        } catch (OverlappingFileLockException | IOException e) {
+            log.debug("Skipping unpublished journal {}", temp, e);
+        }
+    }
+
+    private boolean delete(EntityType type, String key) {
+        try {
+            Response response = WarmUpScope.call(() -> deleter(type).apply(key));
+            int statusCode = response.getStatusCode();
+            return statusCode < 300 || statusCode == 404;
+        } catch (Exception | AssertionError e) {
+            // Schema validation reports a bad response as an AssertionError
+            log.debug("Failed to delete orphaned {} {}", type, key, e);
+            return false;
+        }
+    }
+
+    private Function<String, Response> deleter(EntityType type) {
+        switch (type) {
+            case PET:
+                return key -> petService.deletePet(Long.valueOf(key));
+            case ORDER:
+                return key -> storeService.deleteOrder(Long.valueOf(key));
+            case USER:
+            default:
+                return userService::deleteUser;
+        }
+    }
+}
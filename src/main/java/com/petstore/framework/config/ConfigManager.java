@@ -4,33 +4,69 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Configuration Manager using Singleton pattern
- * Loads environment-specific properties from config files
+ * Loads environment-specific properties from config files.
+ * One instance per environment, so a single JVM can target several environments;
+ * {@link #getInstance()} is the one selected with -Denv.
  */
 @Slf4j
 public class ConfigManager {
 
-    private static ConfigManager instance;
+    private static final Map<String, ConfigManager> ENVIRONMENTS = new ConcurrentHashMap<>();
+
     private final Properties properties;
     private final String environment;
 
-    private ConfigManager() {
-        this.environment = System.getProperty("env", "dev");
+    private ConfigManager(String environment) {
+        this.environment = environment;
         this.properties = loadProperties();
         log.info("ConfigManager initialized for environment: {}", environment);
     }
 
     /**
-     * Thread-safe Singleton instance
+     * Lazy holder: the JVM guarantees one-time, thread-safe initialization,
+     * so callers never contend on a lock after the first access
+     */
+    private static final class Holder {
+        private static final ConfigManager INSTANCE = forEnvironment(System.getProperty("env", "dev"));
+    }
+
+    /**
+     * Thread-safe Singleton instance of the default environment (-Denv)
+     */
+    public static ConfigManager getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Configuration of the given environment, loaded from config/{environment}.properties on first use
+     */
+    public static ConfigManager forEnvironment(String environment) {
+        return ENVIRONMENTS.computeIfAbsent(environment, ConfigManager::new);
+    }
+
+    /**
+     * Environments targeted by this run: the default one (-Denv) followed by
+     * any additional ones listed in -Denvs (comma separated)
      */
-    public static synchronized ConfigManager getInstance() {
-        if (instance == null) {
-            instance = new ConfigManager();
+    public static List<String> getTargetEnvironments() {
+        Set<String> environments = new LinkedHashSet<>();
+        environments.add(getInstance().getEnvironment());
+        for (String environment : System.getProperty("envs", "").split(",")) {
+            if (!environment.isBlank()) {
+                environments.add(environment.trim());
+            }
         }
-        return instance;
+        return new ArrayList<>(environments);
     }
 
     /**
@@ -91,6 +127,67 @@ public class ConfigManager {
         return Integer.parseInt(getProperty("timeout.response", "30000"));
     }
 
+    /**
+     * HTTP transport key (restassured or jdk), overridable with -Dhttp.transport
+     */
+    public String getHttpTransport() {
+        return System.getProperty("http.transport", getProperty("http.transport", "restassured"));
+    }
+
+    /**
+     * Opt-in gzip/deflate negotiation for responses and gzip for large request bodies
+     */
+    public boolean isCompressionEnabled() {
+        return Boolean.parseBoolean(System.getProperty("http.compression.enabled",
+                getProperty("http.compression.enabled", "false")));
+    }
+
+    /**
+     * Request bodies at or above this size (bytes) are gzipped when compression is enabled
+     */
+    public int getRequestCompressionThreshold() {
+        return Integer.parseInt(getProperty("http.compression.request.threshold", "4096"));
+    }
+
+    public boolean isSchemaValidationEnabled() {
+        return Boolean.parseBoolean(getProperty("schema.validation.enabled", "true"));
+    }
+
+    /**
+     * Whether other clients also write to this backend, so whole-inventory counts can change under a test
+     */
+    public boolean isBackendShared() {
+        return Boolean.parseBoolean(getProperty("backend.shared", "true"));
+    }
+
+    /**
+     * Fraction of successful responses validated against their schema (1.0 = all)
+     */
+    public double getSchemaValidationSampleRate() {
+        return Double.parseDouble(getProperty("schema.validation.sample.rate", "1.0"));
+    }
+
+    /**
+     * Rounds of warm-up calls per warm-up thread before tests start (0 disables), overridable with -Dwarmup.iterations
+     */
+    public int getWarmUpIterations() {
+        return Integer.parseInt(System.getProperty("warmup.iterations", getProperty("warmup.iterations", "0")));
+    }
+
+    /**
+     * Warm-up threads, i.e. connections opened up front, overridable with -Dwarmup.concurrency
+     */
+    public int getWarmUpConcurrency() {
+        return Integer.parseInt(System.getProperty("warmup.concurrency", getProperty("warmup.concurrency", "8")));
+    }
+
+    /**
+     * Upper bound on how long a cached login session is reused; the server's expiry wins if earlier
+     */
+    public long getSessionTtlSeconds() {
+        return Long.parseLong(getProperty("session.ttl.seconds", "300"));
+    }
+
     public String getEnvironment() {
         return environment;
     }
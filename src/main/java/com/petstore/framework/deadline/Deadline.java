@@ -0,0 +1,131 @@
+package com.petstore.framework.deadline;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Point in time by which a call, a test or a bulk operation must finish
+ * A deadline is bound to the current thread with {@link #call(Deadline, Supplier)}; every
+ * request made inside the scope uses the remaining time as its timeout and is cancelled
+ * when it runs out. Nested scopes keep the earlier deadline. Work handed to other threads
+ * keeps the deadline when wrapped with {@link #propagate(Runnable)} or {@link #propagate(Callable)}.
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+    private final Duration timeout;
+
+    private Deadline(long deadlineNanos, Duration timeout) {
+        this.deadlineNanos = deadlineNanos;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Deadline the given time from now
+     */
+    public static Deadline after(Duration timeout) {
+        return new Deadline(System.nanoTime() + timeout.toNanos(), timeout);
+    }
+
+    /**
+     * Deadline bound to the current thread, or null if there is none
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Run the call with the deadline bound to the current thread (or the current one, if earlier)
+     */
+    public static <T> T call(Deadline deadline, Supplier<T> call) {
+        Deadline previous = CURRENT.get();
+        CURRENT.set(previous != null && previous.deadlineNanos < deadline.deadlineNanos ? previous : deadline);
+        try {
+            return call.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Run the call with a deadline the given time from now
+     */
+    public static <T> T within(Duration timeout, Supplier<T> call) {
+        return call(after(timeout), call);
+    }
+
+    /**
+     * Wrap a task so that it runs under the calling thread's deadline on whatever thread executes it
+     */
+    public static Runnable propagate(Runnable task) {
+        Deadline deadline = current();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> call(deadline, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Wrap a task so that it runs under the calling thread's deadline on whatever thread executes it
+     */
+    public static <T> Callable<T> propagate(Callable<T> task) {
+        Deadline deadline = current();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> call(deadline, () -> {
+            try {
+                return task.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * Time left, zero once expired
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * The given timeout, capped by the time left
+     */
+    public Duration cap(Duration timeout) {
+        Duration remaining = remaining();
+        return remaining.compareTo(timeout) < 0 ? remaining : timeout;
+    }
+
+    /**
+     * Fail fast if the deadline has already passed
+     */
+    public void check(String operation) {
+        if (isExpired()) {
+            throw new DeadlineExceededException(operation, timeout);
+        }
+    }
+
+    /**
+     * The timeout this deadline was created with
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+}
@@ -0,0 +1,19 @@
+package com.petstore.framework.deadline;
+
+import java.time.Duration;
+
+/**
+ * Raised when a call is refused or cancelled because its {@link Deadline} passed
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DeadlineExceededException(String operation, Duration timeout) {
+        super("Deadline of " + timeout.toMillis() + " ms exceeded: " + operation);
+    }
+
+    public DeadlineExceededException(String operation, Duration timeout, Throwable cause) {
+        super("Deadline of " + timeout.toMillis() + " ms exceeded: " + operation, cause);
+    }
+}
@@ -0,0 +1,46 @@
+package com.petstore.framework.deadline;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs cancellation actions when a deadline passes
+ * One daemon timer thread serves all requests; an action is disarmed when its
+ * request finishes in time, and disarmed tasks are removed from the queue at once.
+ */
+public final class DeadlineWatchdog {
+
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+
+    private DeadlineWatchdog() {
+    }
+
+    /**
+     * Run the action when the deadline passes, unless the returned handle is closed first
+     */
+    public static Armed arm(Deadline deadline, Runnable onExpiry) {
+        ScheduledFuture<?> task = TIMER.schedule(onExpiry, deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+        return () -> task.cancel(false);
+    }
+
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "deadline-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Handle of an armed action; closing it disarms the action
+     */
+    @FunctionalInterface
+    public interface Armed extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
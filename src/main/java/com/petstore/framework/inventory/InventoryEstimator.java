@@ -0,0 +1,133 @@
+package com.petstore.framework.inventory;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-environment client-side estimate of the store inventory
+ * Services report the pets and orders this JVM saves and deletes. The estimate is the
+ * last observed snapshot plus the pet status changes made since, so invariant checks can
+ * compare against it without polling {@code GET /store/inventory} every iteration.
+ * The inventory counts pets by status; orders do not change it and are tallied separately.
+ * Updates of pets this JVM did not save cannot take the old status off and are counted
+ * as untracked, since the estimate is off by them.
+ */
+@Slf4j
+public final class InventoryEstimator {
+
+    private static final Map<String, InventoryEstimator> ENVIRONMENTS = new ConcurrentHashMap<>();
+
+    private final Map<Long, String> petStatuses = new HashMap<>();
+    private final Map<Long, String> orderStatuses = new HashMap<>();
+    private final StoreInventory.Builder petChanges = StoreInventory.builder();
+    private final StoreInventory.Builder openOrders = StoreInventory.builder();
+    private StoreInventory observed = StoreInventory.empty();
+    private StoreInventory changesAtObservation = StoreInventory.empty();
+    private long untrackedUpdates;
+
+    InventoryEstimator() {
+    }
+
+    /**
+     * Inventory estimator of the given environment, created on first use
+     */
+    public static InventoryEstimator forEnvironment(String environment) {
+        return ENVIRONMENTS.computeIfAbsent(environment, env -> new InventoryEstimator());
+    }
+
+    /**
+     * A pet was created or updated with the given status
+     */
+    public synchronized void petSaved(Long petId, String status) {
+        if (petId == null) {
+            return;
+        }
+        String previous = petStatuses.put(petId, status);
+        if (previous != null) {
+            petChanges.add(previous, -1);
+        }
+        if (status != null) {
+            petChanges.add(status, 1);
+        }
+    }
+
+    /**
+     * A pet was updated; if this JVM did not save it before, its old status is unknown
+     */
+    public synchronized void petUpdated(Long petId, String status) {
+        if (petId != null && !petStatuses.containsKey(petId)) {
+            untrackedUpdates++;
+            log.debug("Pet {} updated without a known previous status", petId);
+        }
+        petSaved(petId, status);
+    }
+
+    /**
+     * A pet saved by this JVM was deleted
+     */
+    public synchronized void petDeleted(Long petId) {
+        if (petId == null || !petStatuses.containsKey(petId)) {
+            return;
+        }
+        String status = petStatuses.remove(petId);
+        if (status != null) {
+            petChanges.add(status, -1);
+        }
+    }
+
+    public synchronized void orderPlaced(Long orderId, String status) {
+        if (orderId == null) {
+            return;
+        }
+        String key = status != null ? status : "";
+        String previous = orderStatuses.put(orderId, key);
+        if (previous != null) {
+            openOrders.add(previous, -1);
+        }
+        openOrders.add(key, 1);
+    }
+
+    public synchronized void orderDeleted(Long orderId) {
+        String status = orderId != null ? orderStatuses.remove(orderId) : null;
+        if (status != null) {
+            openOrders.add(status, -1);
+        }
+    }
+
+    /**
+     * Record a snapshot fetched from the backend as the base of {@link #estimate()}
+     */
+    public synchronized void observe(StoreInventory snapshot) {
+        observed = snapshot;
+        changesAtObservation = petChanges.build();
+    }
+
+    /**
+     * Last observed snapshot plus the pet status changes made by this JVM since
+     */
+    public synchronized StoreInventory estimate() {
+        return observed.plus(petChanges.build().minus(changesAtObservation));
+    }
+
+    /**
+     * Net pet status changes made by this JVM since it started
+     * The change between two calls can be compared with the change between two snapshots.
+     */
+    public synchronized StoreInventory changes() {
+        return petChanges.build();
+    }
+
+    /**
+     * Orders placed and not yet deleted by this JVM, by order status
+     */
+    public synchronized StoreInventory openOrders() {
+        return openOrders.build();
+    }
+
+    public synchronized long getUntrackedUpdates() {
+        return untrackedUpdates;
+    }
+}
@@ -0,0 +1,17 @@
+package com.petstore.framework.inventory;
+
+/**
+ * Raised when a store inventory cannot be fetched or parsed
+ */
+public class InventoryException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public InventoryException(String message) {
+        super(message);
+    }
+
+    public InventoryException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,229 @@
+package com.petstore.framework.inventory;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable pet status → count snapshot of {@code GET /store/inventory}
+ * Statuses are kept sorted next to a {@code long[]} of counts, so lookups are a binary
+ * search and {@link #minus}/{@link #plus} are a single merge pass without boxing.
+ * The same type holds differences between snapshots, whose counts may be negative.
+ * Zero counts are never stored, so a listed 0 and a missing status compare equal.
+ */
+public final class StoreInventory {
+
+    public static final String AVAILABLE = "available";
+    public static final String PENDING = "pending";
+    public static final String SOLD = "sold";
+
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final StoreInventory EMPTY = new StoreInventory(new String[0], new long[0]);
+
+    private final String[] statuses;
+    private final long[] counts;
+
+    private StoreInventory(String[] statuses, long[] counts) {
+        this.statuses = statuses;
+        this.counts = counts;
+    }
+
+    public static StoreInventory empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Parse an inventory JSON object straight from the response stream
+     * Null counts read as 0; any other non-integer value is rejected.
+     */
+    public static StoreInventory parse(InputStream in) {
+        Builder builder = new Builder();
+        try (JsonParser parser = JSON.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new InventoryException("Inventory is not a JSON object: " + parser.currentToken());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String status = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value == JsonToken.VALUE_NUMBER_INT) {
+                    builder.add(status, parser.getLongValue());
+                } else if (value == JsonToken.VALUE_NULL) {
+                    builder.add(status, 0);
+                } else {
+                    throw new InventoryException("Inventory count of '" + status + "' is not an integer: " + value);
+                }
+            }
+        } catch (IOException e) {
+            throw new InventoryException("Failed to parse inventory", e);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Count of the status, 0 if it is not listed
+     */
+    public long count(String status) {
+        int index = Arrays.binarySearch(statuses, status);
+        return index >= 0 ? counts[index] : 0;
+    }
+
+    public long getAvailable() {
+        return count(AVAILABLE);
+    }
+
+    public long getPending() {
+        return count(PENDING);
+    }
+
+    public long getSold() {
+        return count(SOLD);
+    }
+
+    public long total() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    public List<String> getStatuses() {
+        return Collections.unmodifiableList(Arrays.asList(statuses));
+    }
+
+    public int size() {
+        return statuses.length;
+    }
+
+    public boolean isEmpty() {
+        return statuses.length == 0;
+    }
+
+    /**
+     * Per-status change from {@code earlier} to this snapshot; unchanged statuses are left out
+     */
+    public StoreInventory minus(StoreInventory earlier) {
+        return merge(earlier, -1);
+    }
+
+    /**
+     * This snapshot with a difference applied, e.g. a baseline plus expected changes
+     */
+    public StoreInventory plus(StoreInventory difference) {
+        return merge(difference, 1);
+    }
+
+    private StoreInventory merge(StoreInventory other, int sign) {
+        String[] mergedStatuses = new String[statuses.length + other.statuses.length];
+        long[] mergedCounts = new long[mergedStatuses.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < statuses.length || j < other.statuses.length) {
+            int order = i == statuses.length ? 1
+                    : j == other.statuses.length ? -1
+                    : statuses[i].compareTo(other.statuses[j]);
+            String status;
+            long count;
+            if (order < 0) {
+                status = statuses[i];
+                count = counts[i++];
+            } else if (order > 0) {
+                status = other.statuses[j];
+                count = sign * other.counts[j++];
+            } else {
+                status = statuses[i];
+                count = counts[i++] + sign * other.counts[j++];
+            }
+            if (count != 0) {
+                mergedStatuses[size] = status;
+                mergedCounts[size++] = count;
+            }
+        }
+        return size == 0 ? EMPTY : new StoreInventory(Arrays.copyOf(mergedStatuses, size), Arrays.copyOf(mergedCounts, size));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StoreInventory other)) {
+            return false;
+        }
+        return Arrays.equals(statuses, other.statuses) && Arrays.equals(counts, other.counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(statuses) + Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i < statuses.length; i++) {
+            sb.append(i == 0 ? "" : ", ").append(statuses[i]).append('=').append(counts[i]);
+        }
+        return sb.append('}').toString();
+    }
+
+    /**
+     * Mutable, unsynchronized accumulator of per-status counts
+     */
+    public static final class Builder {
+
+        private String[] statuses = new String[8];
+        private long[] counts = new long[8];
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * Add {@code delta} to the status, inserting it if it is new
+         */
+        public Builder add(String status, long delta) {
+            int index = Arrays.binarySearch(statuses, 0, size, status);
+            if (index >= 0) {
+                counts[index] += delta;
+                return this;
+            }
+            int insertAt = -index - 1;
+            if (size == statuses.length) {
+                statuses = Arrays.copyOf(statuses, size * 2);
+                counts = Arrays.copyOf(counts, size * 2);
+            }
+            System.arraycopy(statuses, insertAt, statuses, insertAt + 1, size - insertAt);
+            System.arraycopy(counts, insertAt, counts, insertAt + 1, size - insertAt);
+            statuses[insertAt] = status;
+            counts[insertAt] = delta;
+            size++;
+            return this;
+        }
+
+        public StoreInventory build() {
+            String[] nonZeroStatuses = new String[size];
+            long[] nonZeroCounts = new long[size];
+            int nonZero = 0;
+            for (int i = 0; i < size; i++) {
+                if (counts[i] != 0) {
+                    nonZeroStatuses[nonZero] = statuses[i];
+                    nonZeroCounts[nonZero++] = counts[i];
+                }
+            }
+            return nonZero == 0 ? EMPTY
+                    : new StoreInventory(Arrays.copyOf(nonZeroStatuses, nonZero), Arrays.copyOf(nonZeroCounts, nonZero));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.petstore.framework.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event emitted for every HTTP exchange made by the service layer
+ * The event duration is the time spent on the wire (transport only)
+ * Calls that throw are committed too, flagged as failed, so hung calls stay visible
+ */
+@Name(ApiCallEvent.NAME)
+@Label("API Call")
+@Category({"PetStore", "API"})
+@Description("HTTP exchange issued by a PetStore service")
+@StackTrace(false)
+public class ApiCallEvent extends Event {
+
+    public static final String NAME = "com.petstore.ApiCall";
+
+    @Label("Method")
+    String method;
+
+    @Label("Path Template")
+    String pathTemplate;
+
+    @Label("Status Code")
+    @Description("0 when the call failed before a response arrived")
+    int status;
+
+    @Label("Failed")
+    @Description("The call threw (timeout, deadline, transport error) instead of returning a response")
+    boolean failed;
+
+    @Label("Exception")
+    String exception;
+
+    @Label("Request Size")
+    @DataAmount
+    long requestBytes;
+
+    @Label("Response Size")
+    @DataAmount
+    long responseBytes;
+
+    @Label("Test")
+    String testName;
+
+    @Label("Environment")
+    String environment;
+
+    @Label("Warm-up")
+    @Description("Issued by the warm-up before measured work; excluded from metrics")
+    boolean warmUp;
+}
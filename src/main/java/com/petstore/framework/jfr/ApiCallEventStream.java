@@ -0,0 +1,105 @@
+package com.petstore.framework.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Live consumer of {@link ApiCallEvent}s using JFR event streaming
+ * Aggregates per-endpoint call counts, errors and latency, and logs a summary
+ * every report interval while the run is in progress. Warm-up calls are skipped.
+ *
+ * Enable for a run with -Djfr.live.stats=true (interval: -Djfr.live.stats.interval=PT10S)
+ */
+@Slf4j
+public final class ApiCallEventStream implements AutoCloseable {
+
+    private static final AtomicReference<ApiCallEventStream> ACTIVE = new AtomicReference<>();
+
+    private final RecordingStream stream;
+    private final long reportIntervalNanos;
+    // Only touched from the single stream dispatch thread
+    private final Map<String, EndpointStats> stats = new TreeMap<>();
+    private long lastReportNanos = System.nanoTime();
+
+    private ApiCallEventStream(Duration reportInterval) {
+        this.reportIntervalNanos = reportInterval.toNanos();
+        this.stream = new RecordingStream();
+        stream.enable(ApiCallEvent.NAME).withoutStackTrace();
+        stream.onEvent(ApiCallEvent.NAME, this::record);
+        stream.onFlush(this::reportIfDue);
+        stream.onClose(this::report);
+    }
+
+    /**
+     * Start the shared live stream once per JVM if -Djfr.live.stats=true
+     */
+    public static void startIfEnabled() {
+        if (!Boolean.getBoolean("jfr.live.stats") || ACTIVE.get() != null) {
+            return;
+        }
+        Duration interval = Duration.parse(System.getProperty("jfr.live.stats.interval", "PT10S"));
+        ApiCallEventStream liveStream = new ApiCallEventStream(interval);
+        if (ACTIVE.compareAndSet(null, liveStream)) {
+            liveStream.stream.startAsync();
+            Runtime.getRuntime().addShutdownHook(new Thread(liveStream::close, "jfr-live-stats-shutdown"));
+            log.info("JFR live API stats enabled, reporting every {}", interval);
+        } else {
+            liveStream.stream.close();
+        }
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    private void record(RecordedEvent event) {
+        if (event.getBoolean("warmUp")) {
+            return;
+        }
+        String endpoint = event.getString("method") + " " + event.getString("pathTemplate");
+        stats.computeIfAbsent(endpoint, key -> new EndpointStats())
+                .add(event.getDuration().toNanos(), event.getInt("status"), event.getBoolean("failed"));
+    }
+
+    private void reportIfDue() {
+        long now = System.nanoTime();
+        if (now - lastReportNanos >= reportIntervalNanos) {
+            lastReportNanos = now;
+            report();
+        }
+    }
+
+    private void report() {
+        if (stats.isEmpty()) {
+            return;
+        }
+        StringBuilder summary = new StringBuilder("========== LIVE API STATS ==========");
+        stats.forEach((endpoint, s) -> summary.append(String.format(
+                "%n%-40s calls=%-6d errors=%-4d avg=%7.1fms max=%7.1fms",
+                endpoint, s.count, s.errors, s.count == 0 ? 0.0 : s.totalNanos / 1e6 / s.count, s.maxNanos / 1e6)));
+        log.info(summary.toString());
+    }
+
+    private static final class EndpointStats {
+        private long count;
+        private long errors;
+        private long totalNanos;
+        private long maxNanos;
+
+        private void add(long durationNanos, int status, boolean failed) {
+            count++;
+            totalNanos += durationNanos;
+            maxNanos = Math.max(maxNanos, durationNanos);
+            if (failed || status >= 400) {
+                errors++;
+            }
+        }
+    }
+}
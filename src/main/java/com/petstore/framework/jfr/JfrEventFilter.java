@@ -0,0 +1,87 @@
+package com.petstore.framework.jfr;
+
+import com.petstore.framework.utils.TestContext;
+import com.petstore.framework.utils.WarmUpScope;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Emits an {@link ApiCallEvent} per exchange
+ * Ordered right before the transport so the event duration covers the wire time only.
+ * When no recording has the event enabled, the filter costs one isEnabled() check.
+ * A call that throws still ends and commits its event, marked failed with the exception type.
+ */
+public class JfrEventFilter implements OrderedFilter {
+
+    private final String environment;
+
+    public JfrEventFilter(String environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+            FilterableResponseSpecification responseSpec,
+            FilterContext ctx) {
+
+        ApiCallEvent event = new ApiCallEvent();
+        if (!event.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        event.begin();
+        Response response = null;
+        Throwable failure = null;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+            return response;
+        } catch (Throwable t) {
+            // RestAssured rethrows checked I/O exceptions undeclared, so catch everything
+            failure = t;
+            throw t;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                commit(event, requestSpec, response, failure);
+            }
+        }
+    }
+
+    private void commit(ApiCallEvent event, FilterableRequestSpecification requestSpec,
+            Response response, Throwable failure) {
+        event.method = requestSpec.getMethod();
+        event.pathTemplate = requestSpec.getUserDefinedPath();
+        event.requestBytes = bodySize(requestSpec.getBody());
+        if (response != null) {
+            event.status = response.getStatusCode();
+            event.responseBytes = response.asByteArray().length;
+        } else {
+            event.failed = true;
+            event.exception = failure == null ? null : failure.getClass().getName();
+        }
+        event.testName = TestContext.currentName();
+        event.environment = environment;
+        event.warmUp = WarmUpScope.isActive();
+        event.commit();
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+
+    private long bodySize(Object body) {
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,59 @@
+package com.petstore.framework.metrics;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Registry of per-endpoint API metrics, one per environment
+ */
+public final class ApiMetrics {
+
+    private static final Map<String, ApiMetrics> ENVIRONMENTS = new ConcurrentHashMap<>();
+
+    private final String environment;
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    private ApiMetrics(String environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Metrics of the given environment, created on first use
+     */
+    public static ApiMetrics forEnvironment(String environment) {
+        return ENVIRONMENTS.computeIfAbsent(environment, ApiMetrics::new);
+    }
+
+    public String getEnvironment() {
+        return environment;
+    }
+
+    /**
+     * Metrics of one endpoint, created on first use
+     */
+    public EndpointMetrics endpoint(String method, String pathTemplate) {
+        return endpoints.computeIfAbsent(method + " " + pathTemplate, EndpointMetrics::new);
+    }
+
+    public Collection<EndpointMetrics> getEndpoints() {
+        return endpoints.values();
+    }
+
+    /**
+     * Human readable per-endpoint table, sorted by endpoint
+     */
+    public String summary() {
+        String rows = endpoints.values().stream()
+                .sorted(Comparator.comparing(EndpointMetrics::getEndpoint))
+                .map(m -> String.format("%n%-32s calls=%-6d errors=%-4d avg=%8.1fms "
+                                + "req=%s/%s resp=%s/%s (wire/logical)",
+                        m.getEndpoint(), m.getCalls(), m.getErrors(), m.getAverageLatencyMillis(),
+                        m.getRequestWireBytes(), m.getRequestLogicalBytes(),
+                        m.getResponseWireBytes(), m.getResponseLogicalBytes()))
+                .collect(Collectors.joining());
+        return "========== API METRICS [" + environment + "] ==========" + rows;
+    }
+}
@@ -0,0 +1,93 @@
+package com.petstore.framework.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters for one endpoint (METHOD + path template)
+ * LongAdder keeps recording contention-free across parallel tests.
+ * Latencies of successful calls are also sampled for distribution comparisons.
+ * Calls that threw count as errors, with the time they took before failing.
+ */
+public class EndpointMetrics {
+
+    private final String endpoint;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder();
+    private final LongAdder requestLogicalBytes = new LongAdder();
+    private final LongAdder requestWireBytes = new LongAdder();
+    private final LongAdder responseLogicalBytes = new LongAdder();
+    private final LongAdder responseWireBytes = new LongAdder();
+    private final LatencySamples latencySamples = new LatencySamples(LatencySamples.DEFAULT_CAPACITY);
+
+    EndpointMetrics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void record(int statusCode, long durationNanos,
+            long requestLogical, long requestWire,
+            long responseLogical, long responseWire) {
+        calls.increment();
+        if (statusCode >= 400) {
+            errors.increment();
+        } else {
+            latencySamples.add(durationNanos);
+        }
+        latencyNanos.add(durationNanos);
+        requestLogicalBytes.add(requestLogical);
+        requestWireBytes.add(requestWire);
+        responseLogicalBytes.add(responseLogical);
+        responseWireBytes.add(responseWire);
+    }
+
+    /**
+     * A call that threw instead of returning a response (timeout, deadline, transport error)
+     */
+    void recordFailure(long durationNanos, long requestLogical, long requestWire) {
+        calls.increment();
+        errors.increment();
+        latencyNanos.add(durationNanos);
+        requestLogicalBytes.add(requestLogical);
+        requestWireBytes.add(requestWire);
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public double getAverageLatencyMillis() {
+        long count = calls.sum();
+        return count == 0 ? 0.0 : latencyNanos.sum() / 1e6 / count;
+    }
+
+    /**
+     * Latency sample of successful calls; error responses have their own, unrelated timing
+     */
+    public LatencySamples getLatencySamples() {
+        return latencySamples;
+    }
+
+    public long getRequestLogicalBytes() {
+        return requestLogicalBytes.sum();
+    }
+
+    public long getRequestWireBytes() {
+        return requestWireBytes.sum();
+    }
+
+    public long getResponseLogicalBytes() {
+        return responseLogicalBytes.sum();
+    }
+
+    public long getResponseWireBytes() {
+        return responseWireBytes.sum();
+    }
+}
@@ -0,0 +1,132 @@
+package com.petstore.framework.metrics;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stored per-endpoint latency distributions and error counts of a reference run
+ * "latencies" maps "METHOD /path/{param}" to a sorted list of latencies in milliseconds,
+ * thinned to at most {@link #MAX_SAMPLES} evenly spaced order statistics so it stays
+ * small enough to commit while keeping the shape of the distribution.
+ * "calls" maps the same keys to [calls, errors]. Files written before error counts
+ * existed hold the latency map alone and are still read.
+ */
+public class LatencyBaseline {
+
+    public static final int MAX_SAMPLES = 256;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final TypeReference<Map<String, double[]>> LATENCY_MAP = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<String, long[]>> CALL_MAP = new TypeReference<>() {
+    };
+
+    private static final String LATENCIES = "latencies";
+    private static final String CALLS = "calls";
+
+    private final Map<String, double[]> samples;
+    private final Map<String, long[]> callCounts;
+
+    public LatencyBaseline(Map<String, double[]> samples) {
+        this(samples, Collections.emptyMap());
+    }
+
+    public LatencyBaseline(Map<String, double[]> samples, Map<String, long[]> callCounts) {
+        this.samples = new TreeMap<>(samples);
+        this.callCounts = new TreeMap<>(callCounts);
+    }
+
+    /**
+     * Baseline stored at the given path, or an empty one if the file does not exist
+     */
+    public static LatencyBaseline load(Path file) {
+        if (!Files.exists(file)) {
+            return new LatencyBaseline(Collections.emptyMap());
+        }
+        try {
+            JsonNode root = MAPPER.readTree(file.toFile());
+            if (!root.path(LATENCIES).isObject()) {
+                return new LatencyBaseline(MAPPER.convertValue(root, LATENCY_MAP));
+            }
+            return new LatencyBaseline(MAPPER.convertValue(root.get(LATENCIES), LATENCY_MAP),
+                    root.path(CALLS).isObject()
+                            ? MAPPER.convertValue(root.get(CALLS), CALL_MAP)
+                            : Collections.emptyMap());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read latency baseline: " + file, e);
+        }
+    }
+
+    /**
+     * This baseline with the endpoints measured in the given run replaced; other endpoints are kept
+     */
+    public LatencyBaseline mergedWith(ApiMetrics metrics) {
+        Map<String, double[]> merged = new TreeMap<>(samples);
+        Map<String, long[]> mergedCalls = new TreeMap<>(callCounts);
+        for (EndpointMetrics endpoint : metrics.getEndpoints()) {
+            double[] sorted = endpoint.getLatencySamples().toSortedMillis();
+            if (sorted.length > 0) {
+                merged.put(endpoint.getEndpoint(), thin(sorted));
+            }
+            if (endpoint.getCalls() > 0) {
+                mergedCalls.put(endpoint.getEndpoint(), new long[]{endpoint.getCalls(), endpoint.getErrors()});
+            }
+        }
+        return new LatencyBaseline(merged, mergedCalls);
+    }
+
+    public void save(Path file) {
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Map<String, Object> content = new LinkedHashMap<>();
+            content.put(LATENCIES, samples);
+            content.put(CALLS, callCounts);
+            MAPPER.writeValue(file.toFile(), content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write latency baseline: " + file, e);
+        }
+    }
+
+    /**
+     * Sorted baseline latencies of an endpoint, empty if it was never measured
+     */
+    public double[] samples(String endpoint) {
+        return samples.getOrDefault(endpoint, new double[0]);
+    }
+
+    /**
+     * [calls, errors] of an endpoint in the baseline run, [0, 0] if unknown
+     */
+    public long[] callCounts(String endpoint) {
+        return callCounts.getOrDefault(endpoint, new long[2]);
+    }
+
+    public boolean isEmpty() {
+        return samples.isEmpty() && callCounts.isEmpty();
+    }
+
+    private static double[] thin(double[] sorted) {
+        int size = Math.min(sorted.length, MAX_SAMPLES);
+        double[] thinned = new double[size];
+        for (int i = 0; i < size; i++) {
+            int index = size == 1 ? 0 : (int) Math.round(i * (sorted.length - 1) / (double) (size - 1));
+            thinned[i] = Math.round(sorted[index] * 100.0) / 100.0;
+        }
+        return thinned;
+    }
+}
@@ -0,0 +1,114 @@
+package com.petstore.framework.metrics;
+
+/**
+ * Outcome of comparing one endpoint's latency distribution and error rate with its baseline
+ */
+public class LatencyComparison {
+
+    public enum Verdict {
+        /** Slower at a checked percentile, by more than the tolerances, and significantly so */
+        REGRESSION,
+        /** More calls failed or timed out than in the baseline, by more than the tolerance and significantly so */
+        ERROR_RATE_REGRESSION,
+        /** Within tolerance, or the difference is not statistically significant */
+        OK,
+        /** Too few samples on either side to judge */
+        INSUFFICIENT_DATA
+    }
+
+    private final String endpoint;
+    private final int baselineSamples;
+    private final int currentSamples;
+    private final double baselineP50;
+    private final double currentP50;
+    private final double baselineP95;
+    private final double currentP95;
+    private final double pValue;
+    private final double baselineErrorRate;
+    private final double currentErrorRate;
+    private final Verdict verdict;
+
+    LatencyComparison(String endpoint, int baselineSamples, int currentSamples,
+            double baselineP50, double currentP50, double baselineP95, double currentP95,
+            double pValue, Verdict verdict) {
+        this(endpoint, baselineSamples, currentSamples, baselineP50, currentP50, baselineP95, currentP95,
+                pValue, 0.0, 0.0, verdict);
+    }
+
+    private LatencyComparison(String endpoint, int baselineSamples, int currentSamples,
+            double baselineP50, double currentP50, double baselineP95, double currentP95,
+            double pValue, double baselineErrorRate, double currentErrorRate, Verdict verdict) {
+        this.endpoint = endpoint;
+        this.baselineSamples = baselineSamples;
+        this.currentSamples = currentSamples;
+        this.baselineP50 = baselineP50;
+        this.currentP50 = currentP50;
+        this.baselineP95 = baselineP95;
+        this.currentP95 = currentP95;
+        this.pValue = pValue;
+        this.baselineErrorRate = baselineErrorRate;
+        this.currentErrorRate = currentErrorRate;
+        this.verdict = verdict;
+    }
+
+    /**
+     * This comparison with the endpoint's error rates; an error rate regression overrides the latency verdict
+     */
+    LatencyComparison withErrorRates(double baselineRate, double currentRate, boolean regressed) {
+        return new LatencyComparison(endpoint, baselineSamples, currentSamples,
+                baselineP50, currentP50, baselineP95, currentP95, pValue, baselineRate, currentRate,
+                regressed ? Verdict.ERROR_RATE_REGRESSION : verdict);
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getBaselineSamples() {
+        return baselineSamples;
+    }
+
+    public int getCurrentSamples() {
+        return currentSamples;
+    }
+
+    public double getBaselineP50() {
+        return baselineP50;
+    }
+
+    public double getCurrentP50() {
+        return currentP50;
+    }
+
+    public double getBaselineP95() {
+        return baselineP95;
+    }
+
+    public double getCurrentP95() {
+        return currentP95;
+    }
+
+    public double getPValue() {
+        return pValue;
+    }
+
+    public double getBaselineErrorRate() {
+        return baselineErrorRate;
+    }
+
+    public double getCurrentErrorRate() {
+        return currentErrorRate;
+    }
+
+    public Verdict getVerdict() {
+        return verdict;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-32s %-21s n=%d/%d p50=%.1f->%.1fms p95=%.1f->%.1fms p=%.4f errors=%.1f->%.1f%%",
+                endpoint, verdict, baselineSamples, currentSamples,
+                baselineP50, currentP50, baselineP95, currentP95, pValue,
+                baselineErrorRate * 100, currentErrorRate * 100);
+    }
+}
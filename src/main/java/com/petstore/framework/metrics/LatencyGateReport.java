@@ -0,0 +1,58 @@
+package com.petstore.framework.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Result of one {@link LatencyRegressionGate} check: run-wide drift plus per-endpoint comparisons
+ */
+public class LatencyGateReport {
+
+    private final double drift;
+    private final double maxDrift;
+    private final List<LatencyComparison> comparisons;
+
+    LatencyGateReport(double drift, double maxDrift, List<LatencyComparison> comparisons) {
+        this.drift = drift;
+        this.maxDrift = maxDrift;
+        this.comparisons = Collections.unmodifiableList(comparisons);
+    }
+
+    /**
+     * Median current/baseline p50 ratio across endpoints; 1.0 means no run-wide change
+     */
+    public double getDrift() {
+        return drift;
+    }
+
+    public List<LatencyComparison> getComparisons() {
+        return comparisons;
+    }
+
+    public List<LatencyComparison> getRegressions() {
+        return comparisons.stream()
+                .filter(c -> c.getVerdict() == LatencyComparison.Verdict.REGRESSION
+                        || c.getVerdict() == LatencyComparison.Verdict.ERROR_RATE_REGRESSION)
+                .collect(Collectors.toList());
+    }
+
+    public boolean isDriftExceeded() {
+        return drift > maxDrift;
+    }
+
+    public boolean isPassed() {
+        return !isDriftExceeded() && getRegressions().isEmpty();
+    }
+
+    /**
+     * Human readable table, one line per endpoint
+     */
+    public String summary() {
+        String rows = comparisons.stream()
+                .map(c -> String.format("%n%s", c))
+                .collect(Collectors.joining());
+        return String.format("========== LATENCY GATE ========== run-wide drift x%.2f (max x%.2f)%s",
+                drift, maxDrift, rows);
+    }
+}
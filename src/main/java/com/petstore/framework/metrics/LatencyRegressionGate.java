@@ -0,0 +1,221 @@
+package com.petstore.framework.metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares this run's per-endpoint latency distributions with a {@link LatencyBaseline}
+ * An endpoint only counts as a regression when all of these hold, so that the handful
+ * of samples a functional suite produces cannot fail the build through noise alone:
+ * <ul>
+ *   <li>both sides have at least {@code minSamples} latencies</li>
+ *   <li>p50, or p95 once both sides have {@value #MIN_SAMPLES_FOR_P95} samples, grew by more than
+ *       {@code relativeTolerance} and by more than {@code minDeltaMillis}</li>
+ *   <li>a one-sided Mann-Whitney U test says the current run is slower with p below {@code alpha}</li>
+ * </ul>
+ * Latencies within one run are correlated (a busy agent slows every call), which the test
+ * cannot see. So the median p50 ratio across endpoints is taken as run-wide drift and divided
+ * out before the per-endpoint checks; drift itself fails the gate only above {@code maxDrift}.
+ * A run that is faster overall (drift below 1) is compared as is, since scaling it up
+ * would make unchanged endpoints look slower.
+ * Calls that fail or time out leave no latency sample, so an endpoint that starts hanging
+ * would look faster. Its error rate is therefore gated too: with {@code minSamples} calls on
+ * both sides, a rise of more than {@code maxErrorRateIncrease} that a one-sided two-proportion
+ * z-test confirms (p below {@code alpha}) fails the endpoint.
+ */
+public class LatencyRegressionGate {
+
+    /**
+     * Below this, p95 is just one of the slowest calls and too noisy to gate on
+     */
+    static final int MIN_SAMPLES_FOR_P95 = 20;
+
+    /**
+     * With fewer comparable endpoints, a single regressed endpoint would be mistaken for drift
+     */
+    static final int MIN_ENDPOINTS_FOR_DRIFT = 3;
+
+    private final double relativeTolerance;
+    private final double minDeltaMillis;
+    private final double alpha;
+    private final int minSamples;
+    private final double maxDrift;
+    private final double maxErrorRateIncrease;
+
+    public LatencyRegressionGate(double relativeTolerance, double minDeltaMillis, double alpha,
+            int minSamples, double maxDrift, double maxErrorRateIncrease) {
+        this.relativeTolerance = relativeTolerance;
+        this.minDeltaMillis = minDeltaMillis;
+        this.alpha = alpha;
+        this.minSamples = minSamples;
+        this.maxDrift = maxDrift;
+        this.maxErrorRateIncrease = maxErrorRateIncrease;
+    }
+
+    /**
+     * Gate configured from perf.gate.* system properties, with conservative defaults
+     */
+    public static LatencyRegressionGate fromSystemProperties() {
+        return new LatencyRegressionGate(
+                Double.parseDouble(System.getProperty("perf.gate.tolerance", "0.5")),
+                Double.parseDouble(System.getProperty("perf.gate.min.delta.ms", "50")),
+                Double.parseDouble(System.getProperty("perf.gate.alpha", "0.01")),
+                Integer.getInteger("perf.gate.min.samples", 8),
+                Double.parseDouble(System.getProperty("perf.gate.max.drift", "2.0")),
+                Double.parseDouble(System.getProperty("perf.gate.max.error.increase", "0.05")));
+    }
+
+    /**
+     * Compare every endpoint measured in this run with its baseline
+     */
+    public LatencyGateReport compare(ApiMetrics metrics, LatencyBaseline baseline) {
+        Map<String, double[]> current = new TreeMap<>();
+        Map<String, EndpointMetrics> endpoints = new TreeMap<>();
+        for (EndpointMetrics endpoint : metrics.getEndpoints()) {
+            current.put(endpoint.getEndpoint(), endpoint.getLatencySamples().toSortedMillis());
+            endpoints.put(endpoint.getEndpoint(), endpoint);
+        }
+
+        double drift = drift(current, baseline);
+        List<LatencyComparison> comparisons = new ArrayList<>();
+        current.forEach((endpoint, samples) -> {
+            EndpointMetrics measured = endpoints.get(endpoint);
+            long[] baselineCalls = baseline.callCounts(endpoint);
+            comparisons.add(compareErrors(compare(endpoint, baseline.samples(endpoint), samples, drift),
+                    baselineCalls[0], baselineCalls[1], measured.getCalls(), measured.getErrors()));
+        });
+        return new LatencyGateReport(drift, maxDrift, comparisons);
+    }
+
+    /**
+     * Median of current/baseline p50 over endpoints with enough samples on both sides, 1.0 if too few
+     */
+    double drift(Map<String, double[]> current, LatencyBaseline baseline) {
+        double[] ratios = current.entrySet().stream()
+                .filter(e -> e.getValue().length >= minSamples
+                        && baseline.samples(e.getKey()).length >= minSamples)
+                .mapToDouble(e -> LatencySamples.percentile(e.getValue(), 50)
+                        / LatencySamples.percentile(baseline.samples(e.getKey()), 50))
+                .filter(ratio -> ratio > 0 && Double.isFinite(ratio))
+                .sorted()
+                .toArray();
+        if (ratios.length < MIN_ENDPOINTS_FOR_DRIFT) {
+            return 1.0;
+        }
+        int middle = ratios.length / 2;
+        return ratios.length % 2 == 1 ? ratios[middle] : (ratios[middle - 1] + ratios[middle]) / 2;
+    }
+
+    LatencyComparison compare(String endpoint, double[] baseline, double[] current, double drift) {
+        double baselineP50 = LatencySamples.percentile(baseline, 50);
+        double currentP50 = LatencySamples.percentile(current, 50);
+        double baselineP95 = LatencySamples.percentile(baseline, 95);
+        double currentP95 = LatencySamples.percentile(current, 95);
+
+        if (baseline.length < minSamples || current.length < minSamples) {
+            return new LatencyComparison(endpoint, baseline.length, current.length,
+                    baselineP50, currentP50, baselineP95, currentP95, 1.0,
+                    LatencyComparison.Verdict.INSUFFICIENT_DATA);
+        }
+
+        double divisor = Math.max(1.0, drift);
+        double[] adjusted = Arrays.stream(current).map(latency -> latency / divisor).toArray();
+        double pValue = mannWhitneyGreaterPValue(adjusted, baseline);
+        boolean p95Usable = Math.min(baseline.length, current.length) >= MIN_SAMPLES_FOR_P95;
+        boolean slower = exceeds(currentP50 / divisor, baselineP50)
+                || (p95Usable && exceeds(currentP95 / divisor, baselineP95));
+        LatencyComparison.Verdict verdict = slower && pValue < alpha
+                ? LatencyComparison.Verdict.REGRESSION
+                : LatencyComparison.Verdict.OK;
+        return new LatencyComparison(endpoint, baseline.length, current.length,
+                baselineP50, currentP50, baselineP95, currentP95, pValue, verdict);
+    }
+
+    LatencyComparison compareErrors(LatencyComparison latency, long baselineCalls, long baselineErrors,
+            long currentCalls, long currentErrors) {
+        double baselineRate = baselineCalls == 0 ? 0.0 : (double) baselineErrors / baselineCalls;
+        double currentRate = currentCalls == 0 ? 0.0 : (double) currentErrors / currentCalls;
+        boolean regressed = baselineCalls >= minSamples && currentCalls >= minSamples
+                && currentRate - baselineRate > maxErrorRateIncrease
+                && proportionGreaterPValue(currentErrors, currentCalls, baselineErrors, baselineCalls) < alpha;
+        return latency.withErrorRates(baselineRate, currentRate, regressed);
+    }
+
+    /**
+     * One-sided p-value for "the first proportion is larger than the second", pooled two-proportion z-test
+     */
+    static double proportionGreaterPValue(long x1, long n1, long x2, long n2) {
+        double pooled = (double) (x1 + x2) / (n1 + n2);
+        double variance = pooled * (1 - pooled) * (1.0 / n1 + 1.0 / n2);
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = ((double) x1 / n1 - (double) x2 / n2) / Math.sqrt(variance);
+        return 1.0 - normalCdf(z);
+    }
+
+    private boolean exceeds(double current, double baseline) {
+        return current - baseline > minDeltaMillis && current > baseline * (1 + relativeTolerance);
+    }
+
+    /**
+     * One-sided p-value for "x tends to be larger than y", normal approximation
+     * with tie correction and continuity correction
+     */
+    static double mannWhitneyGreaterPValue(double[] x, double[] y) {
+        int n1 = x.length;
+        int n2 = y.length;
+        int n = n1 + n2;
+
+        double[][] pooled = new double[n][];
+        for (int i = 0; i < n1; i++) {
+            pooled[i] = new double[]{x[i], 0};
+        }
+        for (int i = 0; i < n2; i++) {
+            pooled[n1 + i] = new double[]{y[i], 1};
+        }
+        Arrays.sort(pooled, Comparator.comparingDouble(v -> v[0]));
+
+        double rankSumX = 0;
+        double tieTerm = 0;
+        for (int i = 0; i < n; ) {
+            int j = i;
+            while (j + 1 < n && pooled[j + 1][0] == pooled[i][0]) {
+                j++;
+            }
+            double averageRank = (i + j + 2) / 2.0;
+            int ties = j - i + 1;
+            tieTerm += (double) ties * ties * ties - ties;
+            for (int k = i; k <= j; k++) {
+                if (pooled[k][1] == 0) {
+                    rankSumX += averageRank;
+                }
+            }
+            i = j + 1;
+        }
+
+        double u = rankSumX - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieTerm / ((double) n * (n - 1)));
+        if (variance <= 0) {
+            return 1.0;
+        }
+        double z = (u - mean - 0.5) / Math.sqrt(variance);
+        return 1.0 - normalCdf(z);
+    }
+
+    /**
+     * Standard normal CDF (Abramowitz and Stegun 7.1.26, error below 1.5e-7)
+     */
+    private static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1.0 / (1.0 + 0.3275911 * x);
+        double erf = 1.0 - (((((1.061405429 * t - 1.453152027) * t) + 1.421413741) * t
+                - 0.284496736) * t + 0.254829592) * t * Math.exp(-x * x);
+        return z >= 0 ? 0.5 * (1 + erf) : 0.5 * (1 - erf);
+    }
+}
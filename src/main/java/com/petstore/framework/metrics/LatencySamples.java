@@ -0,0 +1,58 @@
+package com.petstore.framework.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Bounded uniform sample of latencies (reservoir sampling)
+ * Keeps at most {@code capacity} values however many calls are recorded, so long
+ * runs can still be compared against a baseline distribution. The lock is held
+ * only for an array store, which is negligible next to an HTTP round trip.
+ */
+public class LatencySamples {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final long[] nanos;
+    private long seen;
+
+    public LatencySamples(int capacity) {
+        this.nanos = new long[capacity];
+    }
+
+    synchronized void add(long durationNanos) {
+        if (seen < nanos.length) {
+            nanos[(int) seen] = durationNanos;
+        } else {
+            long slot = ThreadLocalRandom.current().nextLong(seen + 1);
+            if (slot < nanos.length) {
+                nanos[(int) slot] = durationNanos;
+            }
+        }
+        seen++;
+    }
+
+    /**
+     * Sorted copy of the sampled latencies in milliseconds
+     */
+    public synchronized double[] toSortedMillis() {
+        int size = (int) Math.min(seen, nanos.length);
+        double[] millis = new double[size];
+        for (int i = 0; i < size; i++) {
+            millis[i] = nanos[i] / 1e6;
+        }
+        Arrays.sort(millis);
+        return millis;
+    }
+
+    /**
+     * Percentile (0-100) of sorted values, nearest-rank
+     */
+    public static double percentile(double[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0.0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+}
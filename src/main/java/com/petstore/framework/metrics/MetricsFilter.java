@@ -0,0 +1,87 @@
+package com.petstore.framework.metrics;
+
+import com.petstore.framework.transport.WireBytes;
+import com.petstore.framework.utils.WarmUpScope;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Records latency and payload sizes per endpoint into {@link ApiMetrics}
+ * Ordered before request compression, so it sees the body both before (logical)
+ * and after (wire) it has been encoded. Response wire size is what the transport
+ * read off the socket ({@link WireBytes}); a reused RestAssured client is not
+ * measured, and falls back to the Content-Length of a content-encoded response.
+ * Calls that throw are recorded as errors with their elapsed time, so a hanging
+ * endpoint shows up instead of vanishing from the counts.
+ * Warm-up calls ({@link WarmUpScope}) are not recorded.
+ */
+public class MetricsFilter implements OrderedFilter {
+
+    private final ApiMetrics metrics;
+
+    public MetricsFilter(ApiMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+            FilterableResponseSpecification responseSpec,
+            FilterContext ctx) {
+
+        if (WarmUpScope.isActive()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+
+        long requestLogical = bodySize(requestSpec.getBody());
+        EndpointMetrics endpoint = metrics.endpoint(requestSpec.getMethod(), requestSpec.getUserDefinedPath());
+        boolean recorded = false;
+        long start = System.nanoTime();
+        try (WireBytes.Count wire = WireBytes.start()) {
+            Response response = ctx.next(requestSpec, responseSpec);
+            long duration = System.nanoTime() - start;
+            long responseLogical = response.asByteArray().length;
+            long responseWire = wire.isMeasured() ? wire.getBytes() : responseWireSize(response, responseLogical);
+            endpoint.record(response.getStatusCode(), duration,
+                    requestLogical, bodySize(requestSpec.getBody()),
+                    responseLogical, responseWire);
+            recorded = true;
+            return response;
+        } finally {
+            if (!recorded) {
+                endpoint.recordFailure(System.nanoTime() - start, requestLogical, bodySize(requestSpec.getBody()));
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 3;
+    }
+
+    private long responseWireSize(Response response, long logicalSize) {
+        String contentLength = response.getHeader("Content-Length");
+        if (response.getHeader("Content-Encoding") == null || contentLength == null) {
+            return logicalSize;
+        }
+        try {
+            return Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return logicalSize;
+        }
+    }
+
+    static long bodySize(Object body) {
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[]) {
+            return ((byte[]) body).length;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,118 @@
+package com.petstore.framework.reporting;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.Step;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.util.NamingUtils;
+import io.qameta.allure.util.ObjectUtils;
+import io.qameta.allure.util.ResultsUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Reports {@link Step} methods as Allure steps without the AspectJ weaver
+ * The calling method is found on the stack, its template and parameter names are resolved
+ * once and cached, and the step gets the same name, parameters and status the Allure aspect
+ * would give it. Frames of this class and of methods named {@code step} are skipped as
+ * delegating helpers. Parameter names need the {@code -parameters} compiler flag.
+ */
+@Slf4j
+public final class StepReporter {
+
+    private static final String HELPER_METHOD = "step";
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final ConcurrentMap<String, Optional<StepMethod>> METHODS = new ConcurrentHashMap<>();
+
+    private StepReporter() {
+    }
+
+    /**
+     * Run the body of the calling {@link Step} method as an Allure step
+     * Arguments are the caller's own arguments in declaration order. Without a
+     * {@link Step} annotation on the caller the body just runs.
+     */
+    public static <T> T step(Supplier<T> body, Object... args) {
+        Optional<StepMethod> method = WALKER.walk(frames -> frames
+                .filter(frame -> frame.getDeclaringClass() != StepReporter.class
+                        && !HELPER_METHOD.equals(frame.getMethodName()))
+                .findFirst()
+                .flatMap(frame -> METHODS.computeIfAbsent(
+                        frame.getClassName() + '#' + frame.getMethodName() + frame.getDescriptor(),
+                        key -> StepMethod.resolve(frame))));
+        if (method.isEmpty()) {
+            return body.get();
+        }
+
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        lifecycle.startStep(uuid, method.get().toResult(args));
+        try {
+            T result = body.get();
+            lifecycle.updateStep(uuid, step -> step.setStatus(Status.PASSED));
+            return result;
+        } catch (RuntimeException | Error e) {
+            lifecycle.updateStep(uuid, step -> step
+                    .setStatus(ResultsUtils.getStatus(e).orElse(Status.BROKEN))
+                    .setStatusDetails(ResultsUtils.getStatusDetails(e).orElse(null)));
+            throw e;
+        } finally {
+            lifecycle.stopStep(uuid);
+        }
+    }
+
+    /**
+     * Step template and parameter names of one annotated method
+     */
+    private record StepMethod(String methodName, String template, String[] parameterNames) {
+
+        static Optional<StepMethod> resolve(StackWalker.StackFrame frame) {
+            Method method;
+            try {
+                method = frame.getDeclaringClass().getDeclaredMethod(
+                        frame.getMethodName(), frame.getMethodType().parameterArray());
+            } catch (NoSuchMethodException e) {
+                return Optional.empty();
+            }
+            Step step = method.getAnnotation(Step.class);
+            if (step == null) {
+                log.debug("{} has no @Step annotation, not reported as a step", method);
+                return Optional.empty();
+            }
+            java.lang.reflect.Parameter[] parameters = method.getParameters();
+            if (parameters.length > 0 && !parameters[0].isNamePresent()) {
+                log.warn("{} was compiled without -parameters, its step names use arg0..argN", method);
+            }
+            String[] names = new String[parameters.length];
+            for (int i = 0; i < parameters.length; i++) {
+                names[i] = parameters[i].getName();
+            }
+            return Optional.of(new StepMethod(method.getName(), step.value(), names));
+        }
+
+        StepResult toResult(Object[] args) {
+            Map<String, Object> values = new HashMap<>();
+            values.put("method", methodName);
+            List<Parameter> parameters = new ArrayList<>(parameterNames.length);
+            for (int i = 0; i < parameterNames.length && i < args.length; i++) {
+                values.put(parameterNames[i], args[i]);
+                values.put(Integer.toString(i), args[i]);
+                parameters.add(ResultsUtils.createParameter(parameterNames[i], ObjectUtils.toString(args[i])));
+            }
+            String name = template.isEmpty() ? methodName : NamingUtils.processNameTemplate(template, values);
+            return new StepResult().setName(name).setParameters(parameters);
+        }
+    }
+}
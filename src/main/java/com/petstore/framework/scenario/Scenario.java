@@ -0,0 +1,150 @@
+package com.petstore.framework.scenario;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Multi-step workflow declared as a DAG of named steps and their data dependencies
+ * Steps without a path between them run concurrently when executed by a {@link ScenarioRunner}.
+ * A step returning a {@link io.restassured.response.Response} fails on a 4xx/5xx status,
+ * or on any status not listed with {@link Builder#expectStatus(int...)}.
+ *
+ * <pre>
+ * Scenario scenario = Scenario.named("order-lifecycle")
+ *         .step("createPet", ctx -&gt; petService.createPet(pet))
+ *         .step("placeOrder", List.of("createPet"), ctx -&gt; storeService.placeOrder(order))
+ *         .expectStatus(200)
+ *         .cleanupStep("deletePet", List.of("placeOrder"), ctx -&gt; petService.deletePet(petId))
+ *         .build();
+ * </pre>
+ */
+public final class Scenario {
+
+    private final String name;
+    private final List<ScenarioStep> steps;
+
+    private Scenario(String name, List<ScenarioStep> steps) {
+        this.name = name;
+        this.steps = steps;
+    }
+
+    public static Builder named(String name) {
+        return new Builder(name);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Steps in a topological order: every step comes after all of its dependencies
+     */
+    public List<ScenarioStep> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Builder validating step names and dependencies
+     */
+    public static final class Builder {
+
+        private final String name;
+        private final Map<String, ScenarioStep> steps = new LinkedHashMap<>();
+        private String lastStep;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Step without dependencies; starts as soon as the instance starts
+         */
+        public Builder step(String stepName, Function<ScenarioContext, ?> action) {
+            return step(stepName, List.of(), action);
+        }
+
+        /**
+         * Step that starts once all its dependencies have succeeded
+         */
+        public Builder step(String stepName, List<String> dependsOn, Function<ScenarioContext, ?> action) {
+            return add(new ScenarioStep(stepName, dependsOn, action, false));
+        }
+
+        /**
+         * Step that starts once its dependencies have finished, even if they failed
+         * Use it for cleanup; check {@link ScenarioContext#succeeded(String)} before using their results
+         */
+        public Builder cleanupStep(String stepName, List<String> dependsOn, Function<ScenarioContext, ?> action) {
+            return add(new ScenarioStep(stepName, dependsOn, action, true));
+        }
+
+        /**
+         * Statuses the response of the step added last must have, e.g. {@code expectStatus(404)}
+         */
+        public Builder expectStatus(int... statuses) {
+            if (lastStep == null || statuses.length == 0) {
+                throw new IllegalStateException("expectStatus needs a preceding step and at least one status");
+            }
+            Set<Integer> expected = IntStream.of(statuses).boxed().collect(Collectors.toSet());
+            steps.computeIfPresent(lastStep, (stepName, step) -> step.withExpectedStatuses(expected));
+            return this;
+        }
+
+        private Builder add(ScenarioStep step) {
+            if (steps.putIfAbsent(step.getName(), step) != null) {
+                throw new IllegalArgumentException("Duplicate step '" + step.getName() + "' in scenario " + name);
+            }
+            lastStep = step.getName();
+            return this;
+        }
+
+        public Scenario build() {
+            if (steps.isEmpty()) {
+                throw new IllegalStateException("Scenario " + name + " has no steps");
+            }
+            return new Scenario(name, Collections.unmodifiableList(topologicalOrder()));
+        }
+
+        private List<ScenarioStep> topologicalOrder() {
+            Map<String, Integer> pendingDependencies = new HashMap<>();
+            Map<String, List<ScenarioStep>> dependents = new HashMap<>();
+            for (ScenarioStep step : steps.values()) {
+                for (String dependency : step.getDependsOn()) {
+                    if (!steps.containsKey(dependency)) {
+                        throw new IllegalArgumentException(String.format(
+                                "Step '%s' of scenario %s depends on unknown step '%s'", step.getName(), name, dependency));
+                    }
+                    dependents.computeIfAbsent(dependency, key -> new ArrayList<>()).add(step);
+                }
+                pendingDependencies.put(step.getName(), step.getDependsOn().size());
+            }
+
+            Deque<ScenarioStep> ready = new ArrayDeque<>();
+            steps.values().stream().filter(step -> step.getDependsOn().isEmpty()).forEach(ready::add);
+            List<ScenarioStep> ordered = new ArrayList<>(steps.size());
+            while (!ready.isEmpty()) {
+                ScenarioStep step = ready.poll();
+                ordered.add(step);
+                for (ScenarioStep dependent : dependents.getOrDefault(step.getName(), List.of())) {
+                    if (pendingDependencies.merge(dependent.getName(), -1, Integer::sum) == 0) {
+                        ready.add(dependent);
+                    }
+                }
+            }
+            if (ordered.size() != steps.size()) {
+                throw new IllegalArgumentException("Scenario " + name + " has a dependency cycle");
+            }
+            return ordered;
+        }
+    }
+}
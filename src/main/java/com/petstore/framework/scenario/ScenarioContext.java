@@ -0,0 +1,61 @@
+package com.petstore.framework.scenario;
+
+import io.restassured.response.Response;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Results of the steps of one scenario instance, shared by its steps
+ */
+public final class ScenarioContext {
+
+    private final int instance;
+    private final Map<String, Object> results = new ConcurrentHashMap<>();
+    private final Map<String, Throwable> failures = new ConcurrentHashMap<>();
+
+    ScenarioContext(int instance) {
+        this.instance = instance;
+    }
+
+    /**
+     * Index of this scenario instance within the run
+     */
+    public int getInstance() {
+        return instance;
+    }
+
+    /**
+     * Value returned by a completed step
+     */
+    public <T> T get(String step, Class<T> type) {
+        Object result = results.get(step);
+        if (result == null) {
+            throw new IllegalStateException("Step '" + step + "' has no result in instance " + instance);
+        }
+        return type.cast(result);
+    }
+
+    /**
+     * Response returned by a completed step
+     */
+    public Response response(String step) {
+        return get(step, Response.class);
+    }
+
+    public boolean succeeded(String step) {
+        return results.containsKey(step);
+    }
+
+    void recordResult(String step, Object result) {
+        results.put(step, result == null ? Boolean.TRUE : result);
+    }
+
+    void recordFailure(String step, Throwable failure) {
+        failures.put(step, failure);
+    }
+
+    Map<String, Throwable> getFailures() {
+        return failures;
+    }
+}
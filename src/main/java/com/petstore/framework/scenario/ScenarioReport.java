@@ -0,0 +1,105 @@
+package com.petstore.framework.scenario;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregated results of all instances of a scenario run
+ */
+public final class ScenarioReport {
+
+    private static final int MAX_RETAINED_FAILURES = 20;
+
+    private final Scenario scenario;
+    private final Map<String, StepTimings> steps = new LinkedHashMap<>();
+    private final List<ScenarioResult> failedInstances = new ArrayList<>();
+    private final StepTimings instanceTimings = new StepTimings();
+    private int instances;
+    private long wallClockNanos;
+
+    ScenarioReport(Scenario scenario) {
+        this.scenario = scenario;
+        scenario.getSteps().forEach(step -> steps.put(step.getName(), new StepTimings()));
+    }
+
+    synchronized void add(ScenarioResult result) {
+        instances++;
+        instanceTimings.add(result.getTotalNanos());
+        result.getStepNanos().forEach((step, nanos) -> steps.get(step).add(nanos));
+        result.getFailures().keySet().forEach(step -> steps.get(step).failures++);
+        result.getSkipped().forEach(step -> steps.get(step).skipped++);
+        if (!result.isSuccessful()) {
+            instanceTimings.failures++;
+            if (failedInstances.size() < MAX_RETAINED_FAILURES) {
+                failedInstances.add(result);
+            }
+        }
+    }
+
+    synchronized void setWallClockNanos(long wallClockNanos) {
+        this.wallClockNanos = wallClockNanos;
+    }
+
+    public synchronized int getInstances() {
+        return instances;
+    }
+
+    public synchronized int getFailedInstanceCount() {
+        return instanceTimings.failures;
+    }
+
+    /**
+     * First failed instances of the run (at most 20)
+     */
+    public synchronized List<ScenarioResult> getFailedInstances() {
+        return Collections.unmodifiableList(new ArrayList<>(failedInstances));
+    }
+
+    /**
+     * Per-step latency percentiles, failures and skips, plus instance throughput
+     */
+    public synchronized String summary() {
+        StringBuilder summary = new StringBuilder(String.format(
+                "========== SCENARIO %s ==========%ninstances=%d failed=%d wall=%.1fms throughput=%.1f/s",
+                scenario.getName(), instances, instanceTimings.failures, wallClockNanos / 1e6,
+                wallClockNanos == 0 ? 0.0 : instances / (wallClockNanos / 1e9)));
+        steps.forEach((step, timings) -> summary.append(timings.format(step)));
+        summary.append(instanceTimings.format("(instance total)"));
+        return summary.toString();
+    }
+
+    private static final class StepTimings {
+        private long[] nanos = new long[16];
+        private int count;
+        private int failures;
+        private int skipped;
+
+        private void add(long value) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = value;
+        }
+
+        private String format(String name) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return String.format("%n%-24s runs=%-6d failed=%-4d skipped=%-4d p50=%8.1fms p95=%8.1fms max=%8.1fms",
+                    name, count, failures, skipped,
+                    percentile(sorted, 0.50) / 1e6, percentile(sorted, 0.95) / 1e6,
+                    count == 0 ? 0.0 : sorted[count - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)];
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.petstore.framework.scenario;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Outcome and per-step timing of one scenario instance
+ */
+public final class ScenarioResult {
+
+    private final int instance;
+    private final long totalNanos;
+    private final Map<String, Long> stepNanos;
+    private final Map<String, Throwable> failures;
+    private final Set<String> skipped;
+
+    ScenarioResult(int instance, long totalNanos, Map<String, Long> stepNanos,
+            Map<String, Throwable> failures, Set<String> skipped) {
+        this.instance = instance;
+        this.totalNanos = totalNanos;
+        this.stepNanos = Map.copyOf(stepNanos);
+        this.failures = Map.copyOf(failures);
+        this.skipped = Set.copyOf(skipped);
+    }
+
+    public int getInstance() {
+        return instance;
+    }
+
+    /**
+     * Wall-clock time from the first step's start to the last step's end
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Duration of every step that ran, by step name
+     */
+    public Map<String, Long> getStepNanos() {
+        return stepNanos;
+    }
+
+    public Map<String, Throwable> getFailures() {
+        return failures;
+    }
+
+    /**
+     * Steps not run because a dependency failed
+     */
+    public Set<String> getSkipped() {
+        return skipped;
+    }
+
+    public boolean isSuccessful() {
+        return failures.isEmpty() && skipped.isEmpty();
+    }
+}
@@ -0,0 +1,153 @@
+package com.petstore.framework.scenario;
+
+import com.petstore.framework.deadline.Deadline;
+import com.petstore.framework.utils.TestContext;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes many instances of a {@link Scenario} as a pipeline
+ * Every running step holds one of maxInFlight worker threads, which bounds the number
+ * of concurrent requests; independent steps of an instance run in parallel, and new
+ * instances are admitted as earlier ones finish, so the workers never go idle.
+ * The caller's {@link Deadline}, if any, bounds every step; cleanup steps run without it.
+ */
+@Slf4j
+public class ScenarioRunner {
+
+    private final int maxInFlight;
+    private final int maxActiveInstances;
+
+    /**
+     * @param maxInFlight maximum number of steps (requests) executing at the same time
+     */
+    public ScenarioRunner(int maxInFlight) {
+        this(maxInFlight, maxInFlight * 2);
+    }
+
+    /**
+     * @param maxInFlight        maximum number of steps (requests) executing at the same time
+     * @param maxActiveInstances maximum number of instances started but not yet finished
+     */
+    public ScenarioRunner(int maxInFlight, int maxActiveInstances) {
+        if (maxInFlight <= 0 || maxActiveInstances <= 0) {
+            throw new IllegalArgumentException("maxInFlight and maxActiveInstances must be positive");
+        }
+        this.maxInFlight = maxInFlight;
+        this.maxActiveInstances = maxActiveInstances;
+    }
+
+    /**
+     * Run the given number of scenario instances and wait for all of them
+     */
+    public ScenarioReport run(Scenario scenario, int instances) {
+        log.info("Running {} instances of scenario {} with {} requests in flight",
+                instances, scenario.getName(), maxInFlight);
+
+        ScenarioReport report = new ScenarioReport(scenario);
+        Map<String, String> callerContext = MDC.getCopyOfContextMap();
+        Deadline deadline = Deadline.current();
+        Semaphore activeInstances = new Semaphore(maxActiveInstances);
+        CountDownLatch finished = new CountDownLatch(instances);
+        ExecutorService executor = Executors.newFixedThreadPool(maxInFlight, workerFactory(scenario));
+
+        long start = System.nanoTime();
+        try {
+            for (int instance = 0; instance < instances; instance++) {
+                activeInstances.acquire();
+                int index = instance;
+                startInstance(scenario, instance, executor, callerContext, deadline).whenComplete((result, error) -> {
+                    if (result != null) {
+                        report.add(result);
+                    } else {
+                        log.error("Instance {}#{} did not complete", scenario.getName(), index, error);
+                    }
+                    activeInstances.release();
+                    finished.countDown();
+                });
+            }
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Scenario " + scenario.getName() + " was interrupted", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        report.setWallClockNanos(System.nanoTime() - start);
+
+        log.info(report.summary());
+        return report;
+    }
+
+    private CompletableFuture<ScenarioResult> startInstance(Scenario scenario, int instance,
+            ExecutorService executor, Map<String, String> callerContext, Deadline deadline) {
+        ScenarioContext context = new ScenarioContext(instance);
+        Map<String, Long> stepNanos = new ConcurrentHashMap<>();
+        Set<String> skipped = ConcurrentHashMap.newKeySet();
+        Map<String, CompletableFuture<Void>> completions = new HashMap<>();
+        long start = System.nanoTime();
+
+        // Steps are in topological order, so dependency futures always exist already
+        for (ScenarioStep step : scenario.getSteps()) {
+            CompletableFuture<?>[] dependencies = step.getDependsOn().stream()
+                    .map(completions::get)
+                    .toArray(CompletableFuture[]::new);
+            completions.put(step.getName(), CompletableFuture.allOf(dependencies).thenRunAsync(() ->
+                    runStep(scenario, step, context, stepNanos, skipped, callerContext, deadline), executor));
+        }
+
+        return CompletableFuture.allOf(completions.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> new ScenarioResult(instance, System.nanoTime() - start,
+                        stepNanos, context.getFailures(), skipped));
+    }
+
+    private void runStep(Scenario scenario, ScenarioStep step, ScenarioContext context,
+            Map<String, Long> stepNanos, Set<String> skipped, Map<String, String> callerContext,
+            Deadline deadline) {
+        if (!step.isCleanup() && !step.getDependsOn().stream().allMatch(context::succeeded)) {
+            skipped.add(step.getName());
+            return;
+        }
+
+        if (callerContext != null) {
+            MDC.setContextMap(callerContext);
+        }
+        MDC.put(TestContext.TEST_NAME_KEY, scenario.getName() + "#" + context.getInstance());
+        long start = System.nanoTime();
+        try {
+            Object result = deadline == null || step.isCleanup()
+                    ? step.getAction().apply(context)
+                    : Deadline.call(deadline, () -> step.getAction().apply(context));
+            step.verify(result);
+            context.recordResult(step.getName(), result);
+        } catch (Throwable failure) {
+            log.warn("Step {} of scenario {}#{} failed: {}",
+                    step.getName(), scenario.getName(), context.getInstance(), failure.toString());
+            context.recordFailure(step.getName(), failure);
+        } finally {
+            stepNanos.put(step.getName(), System.nanoTime() - start);
+            MDC.clear();
+        }
+    }
+
+    private static ThreadFactory workerFactory(Scenario scenario) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "scenario-" + scenario.getName() + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
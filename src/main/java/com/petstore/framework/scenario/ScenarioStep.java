@@ -0,0 +1,76 @@
+package com.petstore.framework.scenario;
+
+import io.restassured.response.Response;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * One named step of a {@link Scenario}
+ */
+public final class ScenarioStep {
+
+    private final String name;
+    private final List<String> dependsOn;
+    private final Function<ScenarioContext, ?> action;
+    private final boolean cleanup;
+    private final Set<Integer> expectedStatuses;
+
+    ScenarioStep(String name, List<String> dependsOn, Function<ScenarioContext, ?> action, boolean cleanup) {
+        this(name, dependsOn, action, cleanup, Set.of());
+    }
+
+    private ScenarioStep(String name, List<String> dependsOn, Function<ScenarioContext, ?> action,
+            boolean cleanup, Set<Integer> expectedStatuses) {
+        this.name = name;
+        this.dependsOn = List.copyOf(dependsOn);
+        this.action = action;
+        this.cleanup = cleanup;
+        this.expectedStatuses = Set.copyOf(expectedStatuses);
+    }
+
+    ScenarioStep withExpectedStatuses(Set<Integer> statuses) {
+        return new ScenarioStep(name, dependsOn, action, cleanup, statuses);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getDependsOn() {
+        return dependsOn;
+    }
+
+    Function<ScenarioContext, ?> getAction() {
+        return action;
+    }
+
+    /**
+     * Cleanup steps run even when a dependency failed
+     */
+    public boolean isCleanup() {
+        return cleanup;
+    }
+
+    /**
+     * Statuses a {@link Response} of this step may have; empty means any status below 400
+     */
+    public Set<Integer> getExpectedStatuses() {
+        return expectedStatuses;
+    }
+
+    /**
+     * Fail the step if it returned a {@link Response} with an unexpected status
+     */
+    void verify(Object result) {
+        if (!(result instanceof Response response)) {
+            return;
+        }
+        int status = response.getStatusCode();
+        if (expectedStatuses.isEmpty() ? status >= 400 : !expectedStatuses.contains(status)) {
+            throw new ScenarioStepException(String.format("Step '%s' returned status %d, expected %s",
+                    name, status, expectedStatuses.isEmpty() ? "below 400" : expectedStatuses));
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.petstore.framework.scenario;
+
+/**
+ * Raised when a scenario step returns a response with an unexpected status
+ */
+public class ScenarioStepException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ScenarioStepException(String message) {
+        super(message);
+    }
+}
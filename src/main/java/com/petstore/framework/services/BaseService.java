@@ -1,43 +1,126 @@
 package com.petstore.framework.services;
 
+import com.petstore.framework.cleanup.CreatedEntityJournal;
+import com.petstore.framework.cleanup.EntityType;
 import com.petstore.framework.config.ConfigManager;
+import com.petstore.framework.inventory.InventoryEstimator;
+import com.petstore.framework.jfr.JfrEventFilter;
+import com.petstore.framework.metrics.ApiMetrics;
+import com.petstore.framework.metrics.MetricsFilter;
+import com.petstore.framework.reporting.StepReporter;
+import com.petstore.framework.transport.HttpTransport;
+import com.petstore.framework.transport.HttpTransports;
+import com.petstore.framework.transport.RequestCompressionFilter;
+import com.petstore.framework.transport.TransportFilter;
 import com.petstore.framework.utils.RequestResponseLoggingFilter;
+import com.petstore.framework.validation.SchemaValidationFilter;
 import io.qameta.allure.restassured.AllureRestAssured;
 import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
 import io.restassured.config.ObjectMapperConfig;
 import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.mapper.ObjectMapperType;
+import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.function.Supplier;
+
 /**
  * Abstract Base Service following SOLID principles
- * Provides common RequestSpecification for all API services
+ * Provides common RequestSpecification for all API services.
+ * Service operations also come with a {@code Duration timeout} overload, which runs the
+ * call under a {@link com.petstore.framework.deadline.Deadline} that far from now, reported
+ * under the Allure step of the operation it delegates to.
  */
 @Slf4j
 public abstract class BaseService {
 
     protected final ConfigManager config;
+    protected final HttpTransport transport;
 
     protected BaseService() {
-        this.config = ConfigManager.getInstance();
+        this(ConfigManager.getInstance());
+    }
+
+    /**
+     * Service bound to one environment: its base URL, transport pool, metrics and journal
+     */
+    protected BaseService(ConfigManager config) {
+        this.config = config;
+        this.transport = HttpTransports.forConfig(config);
         log.debug("Initialized {} with base URL: {}", this.getClass().getSimpleName(), config.getBaseUrl());
     }
 
     /**
      * Get configured RequestSpecification with all filters and settings
+     * The transport filter always runs last, so every other filter sees the
+     * exchange no matter which HTTP client sends it
      * This method can be overridden by child classes if needed (Open/Closed
      * Principle)
      */
     protected RequestSpecification getRequestSpec() {
-        return RestAssured.given()
+        RequestSpecification spec = RestAssured.given()
                 .baseUri(config.getBaseUrl())
                 .contentType(ContentType.JSON)
                 .header("api_key", config.getApiKey())
                 .filter(new AllureRestAssured())
-                .filter(new RequestResponseLoggingFilter())
-                .config(RestAssuredConfig.config()
-                        .objectMapperConfig(new ObjectMapperConfig(ObjectMapperType.JACKSON_2)));
+                .filter(new RequestResponseLoggingFilter());
+
+        if (config.isSchemaValidationEnabled()) {
+            spec.filter(new SchemaValidationFilter(config.getSchemaValidationSampleRate()));
+        }
+
+        RestAssuredConfig restAssuredConfig = RestAssuredConfig.config()
+                .objectMapperConfig(new ObjectMapperConfig(ObjectMapperType.JACKSON_2));
+
+        spec.filter(new MetricsFilter(ApiMetrics.forEnvironment(config.getEnvironment())));
+        if (config.isCompressionEnabled()) {
+            spec.filter(new RequestCompressionFilter(config.getRequestCompressionThreshold()));
+            restAssuredConfig = restAssuredConfig.decoderConfig(DecoderConfig.decoderConfig()
+                    .contentDecoders(DecoderConfig.ContentDecoder.GZIP, DecoderConfig.ContentDecoder.DEFLATE));
+        }
+
+        return spec
+                .filter(new JfrEventFilter(config.getEnvironment()))
+                .filter(new TransportFilter(transport))
+                .config(restAssuredConfig);
+    }
+
+    /**
+     * Run the body of the calling {@link io.qameta.allure.Step} method as that Allure step
+     * Pass the method's arguments in declaration order, they fill the step name template
+     */
+    protected <T> T step(Supplier<T> body, Object... args) {
+        return StepReporter.step(body, args);
+    }
+
+    /**
+     * Journal an entity before the request that creates it, so it can be swept
+     * even if this JVM dies before the test cleans it up
+     */
+    protected void journalCreated(EntityType type, Object key) {
+        if (key != null) {
+            CreatedEntityJournal.forEnvironment(config.getEnvironment()).created(type, key);
+        }
+    }
+
+    /**
+     * Client-side inventory estimate of this service's environment
+     */
+    protected InventoryEstimator inventoryEstimator() {
+        return InventoryEstimator.forEnvironment(config.getEnvironment());
+    }
+
+    /**
+     * Journal an entity as gone once the backend confirms it (deleted or not found)
+     */
+    protected Response journalDeleted(EntityType type, Object key, Response response) {
+        int statusCode = response.getStatusCode();
+        if (key != null && (statusCode < 300 || statusCode == 404)) {
+            CreatedEntityJournal.forEnvironment(config.getEnvironment()).deleted(type, key);
+        }
+        return response;
     }
 }
@@ -1,10 +1,15 @@
 package com.petstore.framework.services;
 
+import com.petstore.framework.cleanup.EntityType;
+import com.petstore.framework.config.ConfigManager;
+import com.petstore.framework.deadline.Deadline;
 import com.petstore.framework.models.Pet;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+
 /**
  * Pet API Service
  * Encapsulates all Pet-related API operations
@@ -14,43 +19,115 @@ public class PetService extends BaseService {
 
     private static final String PET_ENDPOINT = "/pet";
 
+    public PetService() {
+    }
+
+    public PetService(ConfigManager config) {
+        super(config);
+    }
+
+    /**
+     * Pet service for the given environment, e.g. {@code PetService.forEnvironment("stage")}
+     */
+    public static PetService forEnvironment(String environment) {
+        return new PetService(ConfigManager.forEnvironment(environment));
+    }
+
     @Step("Create a new pet")
     public Response createPet(Pet pet) {
-        log.info("Creating pet with name: {}", pet.getName());
-        return getRequestSpec()
-                .body(pet)
-                .post(PET_ENDPOINT);
+        return step(() -> {
+            log.info("Creating pet with name: {}", pet.getName());
+            journalCreated(EntityType.PET, pet.getId());
+            Response response = getRequestSpec()
+                    .body(pet)
+                    .post(PET_ENDPOINT);
+            if (response.getStatusCode() == 200) {
+                inventoryEstimator().petSaved(pet.getId(), pet.getStatus());
+            }
+            return response;
+        }, pet);
+    }
+
+    /**
+     * {@link #createPet(Pet)} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response createPet(Pet pet, Duration timeout) {
+        return Deadline.within(timeout, () -> createPet(pet));
     }
 
     @Step("Update existing pet")
     public Response updatePet(Pet pet) {
-        log.info("Updating pet with ID: {}", pet.getId());
-        return getRequestSpec()
-                .body(pet)
-                .put(PET_ENDPOINT);
+        return step(() -> {
+            log.info("Updating pet with ID: {}", pet.getId());
+            Response response = getRequestSpec()
+                    .body(pet)
+                    .put(PET_ENDPOINT);
+            if (response.getStatusCode() == 200) {
+                inventoryEstimator().petUpdated(pet.getId(), pet.getStatus());
+            }
+            return response;
+        }, pet);
+    }
+
+    /**
+     * {@link #updatePet(Pet)} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response updatePet(Pet pet, Duration timeout) {
+        return Deadline.within(timeout, () -> updatePet(pet));
     }
 
     @Step("Get pet by ID: {petId}")
     public Response getPetById(Long petId) {
-        log.info("Getting pet with ID: {}", petId);
-        return getRequestSpec()
-                .pathParam("petId", petId)
-                .get(PET_ENDPOINT + "/{petId}");
+        return step(() -> {
+            log.info("Getting pet with ID: {}", petId);
+            return getRequestSpec()
+                    .pathParam("petId", petId)
+                    .get(PET_ENDPOINT + "/{petId}");
+        }, petId);
+    }
+
+    /**
+     * {@link #getPetById(Long)} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response getPetById(Long petId, Duration timeout) {
+        return Deadline.within(timeout, () -> getPetById(petId));
     }
 
     @Step("Delete pet by ID: {petId}")
     public Response deletePet(Long petId) {
-        log.info("Deleting pet with ID: {}", petId);
-        return getRequestSpec()
-                .pathParam("petId", petId)
-                .delete(PET_ENDPOINT + "/{petId}");
+        return step(() -> {
+            log.info("Deleting pet with ID: {}", petId);
+            Response response = journalDeleted(EntityType.PET, petId, getRequestSpec()
+                    .pathParam("petId", petId)
+                    .delete(PET_ENDPOINT + "/{petId}"));
+            if (response.getStatusCode() == 200) {
+                inventoryEstimator().petDeleted(petId);
+            }
+            return response;
+        }, petId);
+    }
+
+    /**
+     * {@link #deletePet(Long)} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response deletePet(Long petId, Duration timeout) {
+        return Deadline.within(timeout, () -> deletePet(petId));
     }
 
     @Step("Find pets by status: {status}")
     public Response findPetsByStatus(String status) {
-        log.info("Finding pets with status: {}", status);
-        return getRequestSpec()
-                .queryParam("status", status)
-                .get(PET_ENDPOINT + "/findByStatus");
+        return step(() -> {
+            log.info("Finding pets with status: {}", status);
+            return getRequestSpec()
+                    .queryParam("status", status)
+                    .get(PET_ENDPOINT + "/findByStatus");
+        }, status);
+    }
+
+    /**
+     * {@link #findPetsByStatus(String)} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response findPetsByStatus(String status, Duration timeout) {
+        return Deadline.within(timeout, () -> findPetsByStatus(status));
     }
 }
@@ -0,0 +1,99 @@
+package com.petstore.framework.services;
+
+import com.petstore.framework.config.ConfigManager;
+import com.petstore.framework.utils.WarmUpScope;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Warms up the service layer before measured work starts
+ * Runs cheap, idempotent calls (inventory, find by status, logout) from
+ * {@code concurrency} threads at once, so DNS, TLS, class loading and JIT are
+ * paid up front and the pooled transport opens that many connections.
+ * All calls run inside a {@link WarmUpScope} and are excluded from metrics.
+ */
+@Slf4j
+public class ServiceWarmUp {
+
+    private final ConfigManager config;
+    private final int iterations;
+    private final int concurrency;
+
+    public ServiceWarmUp(ConfigManager config, int iterations, int concurrency) {
+        this.config = config;
+        this.iterations = iterations;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    public static ServiceWarmUp forConfig(ConfigManager config) {
+        return new ServiceWarmUp(config, config.getWarmUpIterations(), config.getWarmUpConcurrency());
+    }
+
+    /**
+     * Run the warm-up; failures are logged, never thrown, since tests will report real problems
+     */
+    public void run() {
+        if (iterations <= 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "service-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Long>> firstCallNanos = new ArrayList<>();
+        try {
+            for (int i = 0; i < concurrency; i++) {
+                firstCallNanos.add(executor.submit(() -> {
+                    startSignal.await();
+                    long[] firstCall = new long[1];
+                    WarmUpScope.run(() -> firstCall[0] = warmUp());
+                    return firstCall[0];
+                }));
+            }
+            // Release all workers together so their first calls need separate connections
+            startSignal.countDown();
+            long slowestFirstCall = 0;
+            for (Future<Long> future : firstCallNanos) {
+                slowestFirstCall = Math.max(slowestFirstCall, future.get());
+            }
+            log.info("Warm-up of {} finished: {} calls on {} threads in {} ms, slowest first call {} ms",
+                    config.getEnvironment(), iterations * concurrency * 3, concurrency,
+                    (System.nanoTime() - start) / 1_000_000, slowestFirstCall / 1_000_000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Warm-up interrupted");
+        } catch (ExecutionException e) {
+            log.warn("Warm-up failed, continuing without it", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private long warmUp() {
+        StoreService storeService = new StoreService(config);
+        PetService petService = new PetService(config);
+        UserService userService = new UserService(config);
+
+        long firstCall = 0;
+        for (int i = 0; i < iterations; i++) {
+            long callStart = System.nanoTime();
+            storeService.getInventory();
+            if (i == 0) {
+                firstCall = System.nanoTime() - callStart;
+            }
+            petService.findPetsByStatus("available");
+            userService.logout();
+        }
+        return firstCall;
+    }
+}
@@ -1,10 +1,18 @@
 package com.petstore.framework.services;
 
+import com.petstore.framework.cleanup.EntityType;
+import com.petstore.framework.config.ConfigManager;
+import com.petstore.framework.deadline.Deadline;
+import com.petstore.framework.inventory.InventoryEstimator;
+import com.petstore.framework.inventory.InventoryException;
+import com.petstore.framework.inventory.StoreInventory;
 import com.petstore.framework.models.Order;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+
 /**
  * Store API Service
  * Encapsulates all Store/Order-related API operations
@@ -13,35 +21,121 @@ import lombok.extern.slf4j.Slf4j;
 public class StoreService extends BaseService {
 
     private static final String STORE_ORDER_ENDPOINT = "/store/order";
+    private static final String STORE_INVENTORY_ENDPOINT = "/store/inventory";
+
+    public StoreService() {
+    }
+
+    public StoreService(ConfigManager config) {
+        super(config);
+    }
+
+    /**
+     * Store service for the given environment, e.g. {@code StoreService.forEnvironment("stage")}
+     */
+    public static StoreService forEnvironment(String environment) {
+        return new StoreService(ConfigManager.forEnvironment(environment));
+    }
 
     @Step("Place a new order")
     public Response placeOrder(Order order) {
-        log.info("Placing order with ID: {}", order.getId());
-        return getRequestSpec()
-                .body(order)
-                .post(STORE_ORDER_ENDPOINT);
+        return step(() -> {
+            log.info("Placing order with ID: {}", order.getId());
+            journalCreated(EntityType.ORDER, order.getId());
+            Response response = getRequestSpec()
+                    .body(order)
+                    .post(STORE_ORDER_ENDPOINT);
+            if (response.getStatusCode() == 200) {
+                inventoryEstimator().orderPlaced(order.getId(), order.getStatus());
+            }
+            return response;
+        }, order);
+    }
+
+    /**
+     * {@link #placeOrder(Order)} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response placeOrder(Order order, Duration timeout) {
+        return Deadline.within(timeout, () -> placeOrder(order));
     }
 
     @Step("Get order by ID: {orderId}")
     public Response getOrderById(Long orderId) {
-        log.info("Getting order with ID: {}", orderId);
-        return getRequestSpec()
-                .pathParam("orderId", orderId)
-                .get(STORE_ORDER_ENDPOINT + "/{orderId}");
+        return step(() -> {
+            log.info("Getting order with ID: {}", orderId);
+            return getRequestSpec()
+                    .pathParam("orderId", orderId)
+                    .get(STORE_ORDER_ENDPOINT + "/{orderId}");
+        }, orderId);
+    }
+
+    /**
+     * {@link #getOrderById(Long)} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response getOrderById(Long orderId, Duration timeout) {
+        return Deadline.within(timeout, () -> getOrderById(orderId));
     }
 
     @Step("Delete order by ID: {orderId}")
     public Response deleteOrder(Long orderId) {
-        log.info("Deleting order with ID: {}", orderId);
-        return getRequestSpec()
-                .pathParam("orderId", orderId)
-                .delete(STORE_ORDER_ENDPOINT + "/{orderId}");
+        return step(() -> {
+            log.info("Deleting order with ID: {}", orderId);
+            Response response = journalDeleted(EntityType.ORDER, orderId, getRequestSpec()
+                    .pathParam("orderId", orderId)
+                    .delete(STORE_ORDER_ENDPOINT + "/{orderId}"));
+            if (response.getStatusCode() == 200) {
+                inventoryEstimator().orderDeleted(orderId);
+            }
+            return response;
+        }, orderId);
+    }
+
+    /**
+     * {@link #deleteOrder(Long)} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response deleteOrder(Long orderId, Duration timeout) {
+        return Deadline.within(timeout, () -> deleteOrder(orderId));
     }
 
     @Step("Get store inventory")
     public Response getInventory() {
-        log.info("Getting store inventory");
-        return getRequestSpec()
-                .get("/store/inventory");
+        return step(() -> {
+            log.info("Getting store inventory");
+            return getRequestSpec()
+                    .get(STORE_INVENTORY_ENDPOINT);
+        });
+    }
+
+    /**
+     * {@link #getInventory()} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response getInventory(Duration timeout) {
+        return Deadline.within(timeout, () -> getInventory());
+    }
+
+    /**
+     * Typed inventory, parsed from the response stream and recorded as the
+     * base of this environment's {@link InventoryEstimator}
+     */
+    @Step("Get store inventory snapshot")
+    public StoreInventory getInventorySnapshot() {
+        return step(() -> {
+            log.info("Getting store inventory snapshot");
+            Response response = getRequestSpec()
+                    .get(STORE_INVENTORY_ENDPOINT);
+            if (response.getStatusCode() != 200) {
+                throw new InventoryException("Inventory request failed with status " + response.getStatusCode());
+            }
+            StoreInventory snapshot = StoreInventory.parse(response.asInputStream());
+            inventoryEstimator().observe(snapshot);
+            return snapshot;
+        });
+    }
+
+    /**
+     * {@link #getInventorySnapshot()} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public StoreInventory getInventorySnapshot(Duration timeout) {
+        return Deadline.within(timeout, () -> getInventorySnapshot());
     }
 }
@@ -1,10 +1,24 @@
 package com.petstore.framework.services;
 
+import com.petstore.framework.cleanup.EntityType;
+import com.petstore.framework.config.ConfigManager;
+import com.petstore.framework.deadline.Deadline;
 import com.petstore.framework.models.User;
+import com.petstore.framework.session.SessionCache;
+import com.petstore.framework.session.SessionException;
+import com.petstore.framework.session.UserSession;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
+
 /**
  * User API Service
  * Encapsulates all User-related API operations
@@ -13,53 +27,226 @@ import lombok.extern.slf4j.Slf4j;
 public class UserService extends BaseService {
 
     private static final String USER_ENDPOINT = "/user";
+    private static final String SESSION_HEADER = "Authorization";
+    private static final String EXPIRES_HEADER = "X-Expires-After";
+    private static final String SESSION_PREFIX = "session:";
+    // Treat sessions as expired slightly early so a request never races the server-side expiry
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(5);
+    private static final DateTimeFormatter EXPIRES_FORMAT =
+            DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss zzz yyyy", Locale.US);
+
+    // Session attached to this service's later requests, set by login/getSession
+    private volatile UserSession activeSession;
+
+    public UserService() {
+    }
+
+    public UserService(ConfigManager config) {
+        super(config);
+    }
+
+    /**
+     * User service for the given environment, e.g. {@code UserService.forEnvironment("stage")}
+     */
+    public static UserService forEnvironment(String environment) {
+        return new UserService(ConfigManager.forEnvironment(environment));
+    }
 
     @Step("Create a new user")
     public Response createUser(User user) {
-        log.info("Creating user with username: {}", user.getUsername());
-        return getRequestSpec()
-                .body(user)
-                .post(USER_ENDPOINT);
+        return step(() -> {
+            log.info("Creating user with username: {}", user.getUsername());
+            journalCreated(EntityType.USER, user.getUsername());
+            return getRequestSpec()
+                    .body(user)
+                    .post(USER_ENDPOINT);
+        }, user);
+    }
+
+    /**
+     * {@link #createUser(User)} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response createUser(User user, Duration timeout) {
+        return Deadline.within(timeout, () -> createUser(user));
     }
 
     @Step("Get user by username: {username}")
     public Response getUserByUsername(String username) {
-        log.info("Getting user with username: {}", username);
-        return getRequestSpec()
-                .pathParam("username", username)
-                .get(USER_ENDPOINT + "/{username}");
+        return step(() -> {
+            log.info("Getting user with username: {}", username);
+            return getRequestSpec()
+                    .pathParam("username", username)
+                    .get(USER_ENDPOINT + "/{username}");
+        }, username);
+    }
+
+    /**
+     * {@link #getUserByUsername(String)} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response getUserByUsername(String username, Duration timeout) {
+        return Deadline.within(timeout, () -> getUserByUsername(username));
     }
 
     @Step("Update user: {username}")
     public Response updateUser(String username, User user) {
-        log.info("Updating user with username: {}", username);
-        return getRequestSpec()
-                .pathParam("username", username)
-                .body(user)
-                .put(USER_ENDPOINT + "/{username}");
+        return step(() -> {
+            log.info("Updating user with username: {}", username);
+            if (user.getUsername() != null && !user.getUsername().equals(username)) {
+                journalCreated(EntityType.USER, user.getUsername());
+            }
+            invalidateSession(username);
+            return getRequestSpec()
+                    .pathParam("username", username)
+                    .body(user)
+                    .put(USER_ENDPOINT + "/{username}");
+        }, username, user);
+    }
+
+    /**
+     * {@link #updateUser(String, User)} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response updateUser(String username, User user, Duration timeout) {
+        return Deadline.within(timeout, () -> updateUser(username, user));
     }
 
     @Step("Delete user: {username}")
     public Response deleteUser(String username) {
-        log.info("Deleting user with username: {}", username);
-        return getRequestSpec()
-                .pathParam("username", username)
-                .delete(USER_ENDPOINT + "/{username}");
+        return step(() -> {
+            log.info("Deleting user with username: {}", username);
+            invalidateSession(username);
+            return journalDeleted(EntityType.USER, username, getRequestSpec()
+                    .pathParam("username", username)
+                    .delete(USER_ENDPOINT + "/{username}"));
+        }, username);
+    }
+
+    /**
+     * {@link #deleteUser(String)} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response deleteUser(String username, Duration timeout) {
+        return Deadline.within(timeout, () -> deleteUser(username));
     }
 
     @Step("User login: {username}")
     public Response login(String username, String password) {
-        log.info("User login attempt for: {}", username);
+        return step(() -> {
+            log.info("User login attempt for: {}", username);
+            Response response = requestLogin(username, password);
+            if (response.getStatusCode() == 200) {
+                UserSession session = toSession(username, response);
+                sessionCache().put(session);
+                activeSession = session;
+            }
+            return response;
+        }, username, password);
+    }
+
+    /**
+     * {@link #login(String, String)} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response login(String username, String password, Duration timeout) {
+        return Deadline.within(timeout, () -> login(username, password));
+    }
+
+    /**
+     * Session of the user, logging in only if no unexpired session is cached
+     * Concurrent callers for the same user share one login. The session is attached
+     * to this service's later requests until logout.
+     */
+    @Step("Get session for: {username}")
+    public UserSession getSession(String username, String password) {
+        return step(() -> {
+            UserSession session = sessionCache().get(username, user -> {
+                log.info("User login (session cache miss) for: {}", user);
+                Response response = requestLogin(user, password);
+                if (response.getStatusCode() != 200) {
+                    throw new SessionException("Login failed for " + user + " with status " + response.getStatusCode());
+                }
+                return toSession(user, response);
+            });
+            activeSession = session;
+            return session;
+        }, username, password);
+    }
+
+    @Step("User logout")
+    public Response logout() {
+        return step(() -> {
+            log.info("User logout");
+            Response response = getRequestSpec()
+                    .get(USER_ENDPOINT + "/logout");
+            UserSession session = activeSession;
+            if (session != null) {
+                invalidateSession(session.getUsername());
+            }
+            return response;
+        });
+    }
+
+    /**
+     * {@link #logout()} bounded by a {@link Deadline} {@code timeout} from now
+     */
+    public Response logout(Duration timeout) {
+        return Deadline.within(timeout, () -> logout());
+    }
+
+    /**
+     * Attach the active session, if any, to every request of this service
+     */
+    @Override
+    protected RequestSpecification getRequestSpec() {
+        RequestSpecification spec = super.getRequestSpec();
+        UserSession session = activeSession;
+        if (session != null && !session.isExpired(Instant.now())) {
+            spec.header(SESSION_HEADER, "Bearer " + session.getToken());
+        }
+        return spec;
+    }
+
+    private Response requestLogin(String username, String password) {
         return getRequestSpec()
                 .queryParam("username", username)
                 .queryParam("password", password)
                 .get(USER_ENDPOINT + "/login");
     }
 
-    @Step("User logout")
-    public Response logout() {
-        log.info("User logout");
-        return getRequestSpec()
-                .get(USER_ENDPOINT + "/logout");
+    private void invalidateSession(String username) {
+        sessionCache().invalidate(username);
+        UserSession session = activeSession;
+        if (session != null && session.getUsername().equals(username)) {
+            activeSession = null;
+        }
+    }
+
+    private SessionCache sessionCache() {
+        return SessionCache.forEnvironment(config.getEnvironment());
+    }
+
+    /**
+     * Session from a login response: the token follows "session:" in the message, and the
+     * expiry is the earlier of X-Expires-After and the configured session TTL
+     */
+    private UserSession toSession(String username, Response response) {
+        String message = response.jsonPath().getString("message");
+        String token = message != null && message.contains(SESSION_PREFIX)
+                ? message.substring(message.indexOf(SESSION_PREFIX) + SESSION_PREFIX.length()).trim()
+                : message;
+        if (token == null || token.isEmpty()) {
+            throw new SessionException("Login response for " + username + " has no session token");
+        }
+
+        Instant expiresAt = Instant.now().plusSeconds(config.getSessionTtlSeconds());
+        String expiresAfter = response.getHeader(EXPIRES_HEADER);
+        if (expiresAfter != null) {
+            try {
+                Instant serverExpiry = ZonedDateTime.parse(expiresAfter, EXPIRES_FORMAT).toInstant();
+                if (serverExpiry.isBefore(expiresAt)) {
+                    expiresAt = serverExpiry;
+                }
+            } catch (DateTimeParseException e) {
+                log.debug("Unparseable {} header: {}", EXPIRES_HEADER, expiresAfter);
+            }
+        }
+        return new UserSession(username, token, expiresAt.minus(EXPIRY_MARGIN));
     }
 }
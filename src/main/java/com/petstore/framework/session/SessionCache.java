@@ -0,0 +1,135 @@
+package com.petstore.framework.session;
+
+import com.petstore.framework.deadline.Deadline;
+import com.petstore.framework.deadline.DeadlineExceededException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Per-environment cache of user sessions with single-flight logins
+ * The first caller for a username performs the login; concurrent callers for the
+ * same username wait on its future instead of logging in again. A failed login is
+ * shared with the callers that waited on it and then forgotten, so the next call retries.
+ * Expired sessions are replaced on access. Callers waiting on another caller's login
+ * give up when their own {@link Deadline} passes.
+ */
+@Slf4j
+public final class SessionCache {
+
+    private static final Map<String, SessionCache> ENVIRONMENTS = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<UserSession>> sessions = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder logins = new LongAdder();
+
+    SessionCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Session cache of the given environment, created on first use
+     */
+    public static SessionCache forEnvironment(String environment) {
+        return ENVIRONMENTS.computeIfAbsent(environment, env -> new SessionCache(Clock.systemUTC()));
+    }
+
+    /**
+     * Cached, unexpired session of the user, or the result of {@code login} if there is none
+     */
+    public UserSession get(String username, Function<String, UserSession> login) {
+        while (true) {
+            CompletableFuture<UserSession> created = new CompletableFuture<>();
+            CompletableFuture<UserSession> existing = sessions.putIfAbsent(username, created);
+            if (existing == null) {
+                return loginInto(created, username, login);
+            }
+
+            UserSession session = await(existing);
+            if (!session.isExpired(clock.instant())) {
+                hits.increment();
+                return session;
+            }
+            log.debug("Session of {} expired at {}", username, session.getExpiresAt());
+            sessions.remove(username, existing);
+        }
+    }
+
+    /**
+     * Store a session obtained outside the cache, replacing any previous one
+     */
+    public void put(UserSession session) {
+        sessions.put(session.getUsername(), CompletableFuture.completedFuture(session));
+    }
+
+    /**
+     * Forget the user's session, e.g. after logout or deletion
+     */
+    public void invalidate(String username) {
+        if (sessions.remove(username) != null) {
+            log.debug("Invalidated session of {}", username);
+        }
+    }
+
+    /**
+     * Number of requests served from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Number of logins performed by the cache
+     */
+    public long getLoginCount() {
+        return logins.sum();
+    }
+
+    private UserSession loginInto(CompletableFuture<UserSession> future, String username,
+            Function<String, UserSession> login) {
+        logins.increment();
+        try {
+            UserSession session = login.apply(username);
+            future.complete(session);
+            return session;
+        } catch (Throwable e) {
+            // Errors too (e.g. a schema violation), or followers would wait on this future forever
+            sessions.remove(username, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static UserSession await(CompletableFuture<UserSession> future) {
+        Deadline deadline = Deadline.current();
+        try {
+            if (deadline == null) {
+                return future.join();
+            }
+            return future.get(deadline.remaining().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (CompletionException | ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new SessionException("Login failed: " + e.getCause());
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException("waiting for a login in progress", deadline.getTimeout(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionException("Interrupted while waiting for a login in progress");
+        }
+    }
+}
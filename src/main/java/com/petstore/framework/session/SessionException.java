@@ -0,0 +1,13 @@
+package com.petstore.framework.session;
+
+/**
+ * Raised when a login does not produce a usable session
+ */
+public class SessionException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public SessionException(String message) {
+        super(message);
+    }
+}
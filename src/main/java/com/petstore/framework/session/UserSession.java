@@ -0,0 +1,35 @@
+package com.petstore.framework.session;
+
+import java.time.Instant;
+
+/**
+ * Result of a successful login: the session token and when it stops being usable
+ */
+public class UserSession {
+
+    private final String username;
+    private final String token;
+    private final Instant expiresAt;
+
+    public UserSession(String username, String token, Instant expiresAt) {
+        this.username = username;
+        this.token = token;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
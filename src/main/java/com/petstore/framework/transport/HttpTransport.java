@@ -0,0 +1,22 @@
+package com.petstore.framework.transport;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Abstraction over the component that actually puts a request on the wire
+ * Invoked by {@link TransportFilter} after every other filter has run
+ */
+public interface HttpTransport {
+
+    /**
+     * Send the fully prepared request and return its response
+     */
+    Response execute(FilterableRequestSpecification requestSpec,
+            FilterableResponseSpecification responseSpec,
+            FilterContext ctx);
+
+    TransportType getType();
+}
@@ -0,0 +1,46 @@
+package com.petstore.framework.transport;
+
+import com.petstore.framework.config.ConfigManager;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Factory for {@link HttpTransport} instances
+ * Transports are created once per environment and shared, so the JDK client
+ * keeps its connection pool across services and tests
+ */
+@Slf4j
+public final class HttpTransports {
+
+    private static final Map<String, HttpTransport> TRANSPORTS = new ConcurrentHashMap<>();
+
+    private HttpTransports() {
+    }
+
+    /**
+     * Get the transport selected by the given configuration
+     */
+    public static HttpTransport forConfig(ConfigManager config) {
+        return TRANSPORTS.computeIfAbsent(config.getEnvironment(), env -> create(config));
+    }
+
+    private static HttpTransport create(ConfigManager config) {
+        TransportType type = TransportType.fromKey(config.getHttpTransport());
+        log.info("Using {} HTTP transport for environment: {}", type.getKey(), config.getEnvironment());
+        switch (type) {
+            case JDK:
+                return new JdkHttpTransport(
+                        Duration.ofMillis(config.getConnectionTimeout()),
+                        Duration.ofMillis(config.getResponseTimeout()),
+                        config.isCompressionEnabled());
+            case REST_ASSURED:
+            default:
+                return new RestAssuredTransport(
+                        Duration.ofMillis(config.getConnectionTimeout()),
+                        Duration.ofMillis(config.getResponseTimeout()));
+        }
+    }
+}
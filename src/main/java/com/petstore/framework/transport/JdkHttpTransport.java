@@ -0,0 +1,264 @@
+package com.petstore.framework.transport;
+
+import com.petstore.framework.deadline.Deadline;
+import com.petstore.framework.deadline.DeadlineExceededException;
+import com.petstore.framework.deadline.DeadlineWatchdog;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Cookie;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Transport backed by the JDK java.net.http.HttpClient
+ * One client is shared by all services of an environment, so concurrent
+ * requests are multiplexed over a few HTTP/2 connections using the client's
+ * non-blocking selector instead of one socket per in-flight request.
+ * With compression enabled it negotiates gzip/deflate and inflates bodies straight
+ * off the response stream; the compressed bytes read are reported to {@link WireBytes}.
+ * Only the inflated body is buffered, because a RestAssured {@link Response} holds its
+ * content in memory and the body must be read while the deadline watchdog is armed.
+ * Form parameters are sent URL-encoded; multipart requests are refused with a {@link TransportException}.
+ */
+@Slf4j
+public class JdkHttpTransport implements HttpTransport {
+
+    /**
+     * Headers the JDK client manages itself and refuses to accept
+     */
+    private static final Set<String> RESTRICTED_HEADERS =
+            Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private static final String ACCEPT_ENCODING = "gzip, deflate";
+
+    private static final String FORM_CONTENT_TYPE = "application/x-www-form-urlencoded; charset=UTF-8";
+
+    private final HttpClient client;
+    private final Duration responseTimeout;
+    private final boolean compression;
+
+    public JdkHttpTransport(Duration connectTimeout, Duration responseTimeout, boolean compression) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        this.responseTimeout = responseTimeout;
+        this.compression = compression;
+        log.debug("JDK HttpClient transport created (connect timeout: {}, response timeout: {}, compression: {})",
+                connectTimeout, responseTimeout, compression);
+    }
+
+    @Override
+    public Response execute(FilterableRequestSpecification requestSpec,
+            FilterableResponseSpecification responseSpec,
+            FilterContext ctx) {
+        Deadline deadline = Deadline.current();
+        HttpRequest request = toHttpRequest(requestSpec,
+                deadline == null ? responseTimeout : deadline.cap(responseTimeout));
+        String operation = request.method() + " " + request.uri();
+        if (deadline == null) {
+            try {
+                return toRestAssuredResponse(client.send(request, HttpResponse.BodyHandlers.ofInputStream()));
+            } catch (IOException e) {
+                throw new TransportException("HTTP call failed: " + operation, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TransportException("HTTP call interrupted: " + operation, e);
+            }
+        }
+
+        CompletableFuture<HttpResponse<InputStream>> exchange =
+                client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream());
+        DeadlineWatchdog.Armed watchdog = DeadlineWatchdog.arm(deadline, () -> cancel(exchange));
+        try {
+            return toRestAssuredResponse(exchange.get());
+        } catch (CancellationException e) {
+            throw new DeadlineExceededException(operation, deadline.getTimeout(), e);
+        } catch (ExecutionException | IOException e) {
+            Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+            if (deadline.isExpired()) {
+                throw new DeadlineExceededException(operation, deadline.getTimeout(), cause);
+            }
+            throw new TransportException("HTTP call failed: " + operation, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.cancel(true);
+            throw new TransportException("HTTP call interrupted: " + operation, e);
+        } finally {
+            watchdog.close();
+        }
+    }
+
+    /**
+     * Abort the exchange, or close its body stream if the headers have already arrived
+     */
+    private static void cancel(CompletableFuture<HttpResponse<InputStream>> exchange) {
+        if (exchange.cancel(true)) {
+            return;
+        }
+        HttpResponse<InputStream> response = exchange.getNow(null);
+        if (response != null) {
+            try {
+                response.body().close();
+            } catch (IOException e) {
+                log.debug("Failed to close response body on deadline", e);
+            }
+        }
+    }
+
+    @Override
+    public TransportType getType() {
+        return TransportType.JDK;
+    }
+
+    private HttpRequest toHttpRequest(FilterableRequestSpecification requestSpec, Duration timeout) {
+        String operation = requestSpec.getMethod() + " " + requestSpec.getURI();
+        if (!requestSpec.getMultiPartParams().isEmpty()) {
+            throw new TransportException("Multipart requests are not supported by the JDK transport: " + operation);
+        }
+        String form = formBody(requestSpec);
+        if (form != null && requestSpec.getBody() != null) {
+            throw new TransportException("A request has either form parameters or a body, not both: " + operation);
+        }
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(requestSpec.getURI()))
+                .timeout(timeout.isZero() ? Duration.ofMillis(1) : timeout)
+                .method(requestSpec.getMethod(), form != null
+                        ? HttpRequest.BodyPublishers.ofString(form, StandardCharsets.UTF_8)
+                        : bodyPublisher(requestSpec.getBody()));
+
+        boolean contentTypeSet = false;
+        StringJoiner cookies = new StringJoiner("; ");
+        for (Header header : requestSpec.getHeaders()) {
+            String name = header.getName().toLowerCase(Locale.ROOT);
+            if (name.equals("cookie")) {
+                cookies.add(header.getValue());
+                continue;
+            }
+            if (RESTRICTED_HEADERS.contains(name) || form != null && name.equals("content-type")) {
+                continue;
+            }
+            contentTypeSet |= name.equals("content-type");
+            builder.header(header.getName(), header.getValue());
+        }
+        for (Cookie cookie : requestSpec.getCookies()) {
+            cookies.add(cookie.getName() + "=" + cookie.getValue());
+        }
+        // one Cookie header, as HTTP/1.1 servers expect
+        if (cookies.length() > 0) {
+            builder.header("Cookie", cookies.toString());
+        }
+        if (form != null) {
+            builder.header("Content-Type", FORM_CONTENT_TYPE);
+        } else if (!contentTypeSet && requestSpec.getContentType() != null) {
+            builder.header("Content-Type", requestSpec.getContentType());
+        }
+        if (compression && requestSpec.getHeaders().get("Accept-Encoding") == null) {
+            builder.header("Accept-Encoding", ACCEPT_ENCODING);
+        }
+        return builder.build();
+    }
+
+    /**
+     * URL-encoded form parameters, or null if there are none
+     * Like RestAssured, plain parameters of a request other than GET are sent as form parameters
+     */
+    private String formBody(FilterableRequestSpecification requestSpec) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (!"GET".equalsIgnoreCase(requestSpec.getMethod())) {
+            params.putAll(requestSpec.getRequestParams());
+        }
+        params.putAll(requestSpec.getFormParams());
+        if (params.isEmpty()) {
+            return null;
+        }
+        StringJoiner form = new StringJoiner("&");
+        params.forEach((name, value) -> {
+            Collection<?> values = value instanceof Collection ? (Collection<?>) value : List.of(value);
+            values.forEach(single -> form.add(encode(name) + "=" + encode(String.valueOf(single))));
+        });
+        return form.toString();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private HttpRequest.BodyPublisher bodyPublisher(Object body) {
+        if (body == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        if (body instanceof byte[]) {
+            return HttpRequest.BodyPublishers.ofByteArray((byte[]) body);
+        }
+        return HttpRequest.BodyPublishers.ofString(body.toString(), StandardCharsets.UTF_8);
+    }
+
+    private Response toRestAssuredResponse(HttpResponse<InputStream> response) throws IOException {
+        String encoding = response.headers().firstValue("content-encoding")
+                .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                .orElse("");
+
+        byte[] body;
+        try (InputStream decoded = decode(WireBytes.counting(response.body()), encoding)) {
+            body = decoded.readAllBytes();
+        }
+
+        List<Header> headers = new ArrayList<>();
+        response.headers().map().forEach((name, values) ->
+                values.forEach(value -> headers.add(new Header(name, value))));
+
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(response.statusCode())
+                .setStatusLine(statusLine(response))
+                .setHeaders(new Headers(headers))
+                .setBody(body);
+        response.headers().firstValue("content-type").ifPresent(builder::setContentType);
+        return builder.build();
+    }
+
+    private InputStream decode(InputStream wire, String encoding) throws IOException {
+        switch (encoding) {
+            case "gzip":
+            case "x-gzip":
+                return new GZIPInputStream(wire);
+            case "deflate":
+                return new InflaterInputStream(wire);
+            default:
+                return wire;
+        }
+    }
+
+    private String statusLine(HttpResponse<?> response) {
+        String protocol = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return protocol + " " + response.statusCode();
+    }
+}
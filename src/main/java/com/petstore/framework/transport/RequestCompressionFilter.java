@@ -0,0 +1,64 @@
+package com.petstore.framework.transport;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzips request bodies larger than a threshold and marks them with Content-Encoding
+ * Runs after logging and validation, so those still see the plain JSON body
+ */
+public class RequestCompressionFilter implements OrderedFilter {
+
+    private final int thresholdBytes;
+
+    public RequestCompressionFilter(int thresholdBytes) {
+        this.thresholdBytes = thresholdBytes;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+            FilterableResponseSpecification responseSpec,
+            FilterContext ctx) {
+
+        byte[] body = bodyBytes(requestSpec.getBody());
+        if (body != null && body.length >= thresholdBytes && requestSpec.getHeaders().get("Content-Encoding") == null) {
+            requestSpec.body(gzip(body));
+            requestSpec.header("Content-Encoding", "gzip");
+        }
+        return ctx.next(requestSpec, responseSpec);
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 2;
+    }
+
+    private byte[] bodyBytes(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return (byte[]) body;
+        }
+        return body.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to gzip request body", e);
+        }
+        return buffer.toByteArray();
+    }
+}
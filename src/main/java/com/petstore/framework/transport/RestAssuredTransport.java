@@ -0,0 +1,155 @@
+package com.petstore.framework.transport;
+
+import com.petstore.framework.deadline.Deadline;
+import com.petstore.framework.deadline.DeadlineExceededException;
+import com.petstore.framework.deadline.DeadlineWatchdog;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.HttpClient;
+import org.apache.http.client.HttpRequestRetryHandler;
+import org.apache.http.entity.HttpEntityWrapper;
+import org.apache.http.impl.client.AbstractHttpClient;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Default transport: hands the request back to RestAssured's own HTTP client
+ * Applies the configured connect and socket timeouts, capped by the current {@link Deadline}.
+ * Under a deadline, a watchdog closes the per-request client RestAssured made from its configured
+ * factory when time runs out, which aborts the exchange and closes the socket; it is not retried,
+ * The body is read before the watchdog is disarmed, and a response cut short that way
+ * is reported as a {@link DeadlineExceededException}.
+ * Per-request clients also report the raw response body to {@link WireBytes}.
+ * I/O failures (e.g. a socket timeout) surface as {@link TransportException}, as on the JDK transport.
+ * A client instance configured for reuse is never closed or decorated; only the capped timeouts apply to it.
+ */
+@Slf4j
+public class RestAssuredTransport implements HttpTransport {
+
+    private static final String CONNECTION_TIMEOUT = "http.connection.timeout";
+    private static final String SOCKET_TIMEOUT = "http.socket.timeout";
+
+    private final Duration connectTimeout;
+    private final Duration responseTimeout;
+
+    public RestAssuredTransport(Duration connectTimeout, Duration responseTimeout) {
+        this.connectTimeout = connectTimeout;
+        this.responseTimeout = responseTimeout;
+    }
+
+    @Override
+    public Response execute(FilterableRequestSpecification requestSpec,
+            FilterableResponseSpecification responseSpec,
+            FilterContext ctx) {
+        Deadline deadline = Deadline.current();
+        HttpClientConfig httpClientConfig = requestSpec.getConfig().getHttpClientConfig()
+                .setParam(CONNECTION_TIMEOUT, timeoutMillis(connectTimeout, deadline))
+                .setParam(SOCKET_TIMEOUT, timeoutMillis(responseTimeout, deadline));
+        requestSpec.config(requestSpec.getConfig().httpClient(httpClientConfig));
+
+        String operation = requestSpec.getMethod() + " " + requestSpec.getURI();
+        AtomicBoolean aborted = new AtomicBoolean();
+        DeadlineWatchdog.Armed watchdog = () -> { };
+        if (!httpClientConfig.isConfiguredToReuseTheSameHttpClientInstance()) {
+            // RestAssured creates the per-request client before the filter chain runs
+            HttpClient client = requestSpec.getHttpClient();
+            countWireBytes(client);
+            if (deadline != null) {
+                stopRetriesAfter(deadline, client);
+                watchdog = DeadlineWatchdog.arm(deadline, () -> {
+                    aborted.set(true);
+                    close(client);
+                });
+            }
+        }
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            // RestAssured reads the body lazily; read it while the watchdog still covers the exchange
+            response.asByteArray();
+            if (aborted.get()) {
+                // RestAssured returns whatever part of the body arrived before the client was closed
+                throw new DeadlineExceededException(operation, deadline.getTimeout());
+            }
+            return response;
+        } catch (DeadlineExceededException e) {
+            throw e;
+        } catch (Exception e) {
+            // RestAssured rethrows checked I/O exceptions (e.g. SocketTimeoutException) undeclared
+            if (deadline != null && deadline.isExpired()) {
+                throw new DeadlineExceededException(operation, deadline.getTimeout(), e);
+            }
+            if (e instanceof IOException) {
+                throw new TransportException("HTTP call failed: " + operation, e);
+            }
+            throw e;
+        } finally {
+            watchdog.close();
+        }
+    }
+
+    /**
+     * Count the body before RestAssured's content decoders, which are added later, unwrap it
+     */
+    @SuppressWarnings("deprecation") // RestAssured only builds AbstractHttpClient instances
+    private static void countWireBytes(HttpClient client) {
+        if (client instanceof AbstractHttpClient apacheClient) {
+            apacheClient.addResponseInterceptor(RestAssuredTransport::countWireBytes, 0);
+        }
+    }
+
+    private static void countWireBytes(HttpResponse response, HttpContext context) {
+        HttpEntity entity = response.getEntity();
+        if (entity != null) {
+            response.setEntity(new HttpEntityWrapper(entity) {
+                @Override
+                public InputStream getContent() throws IOException {
+                    return WireBytes.counting(super.getContent());
+                }
+            });
+        }
+    }
+
+    /**
+     * Apache retries idempotent requests whose connection dropped, which would resend one the watchdog aborted
+     */
+    @SuppressWarnings("deprecation") // RestAssured only builds AbstractHttpClient instances
+    private static void stopRetriesAfter(Deadline deadline, HttpClient client) {
+        if (client instanceof AbstractHttpClient apacheClient) {
+            HttpRequestRetryHandler retries = apacheClient.getHttpRequestRetryHandler();
+            apacheClient.setHttpRequestRetryHandler((exception, executionCount, context) ->
+                    !deadline.isExpired() && retries.retryRequest(exception, executionCount, context));
+        }
+    }
+
+    private static void close(HttpClient client) {
+        if (client instanceof Closeable closeable) {
+            try {
+                closeable.close();
+            } catch (IOException e) {
+                log.debug("Failed to close HTTP client on deadline", e);
+            }
+        }
+    }
+
+    @Override
+    public TransportType getType() {
+        return TransportType.REST_ASSURED;
+    }
+
+    private static int timeoutMillis(Duration timeout, Deadline deadline) {
+        Duration capped = deadline == null ? timeout : deadline.cap(timeout);
+        // 0 means "no timeout" to the Apache client, so never go below 1 ms
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, capped.toMillis()));
+    }
+}
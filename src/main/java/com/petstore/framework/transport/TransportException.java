@@ -0,0 +1,17 @@
+package com.petstore.framework.transport;
+
+/**
+ * Raised when a transport fails to complete an HTTP exchange
+ */
+public class TransportException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public TransportException(String message) {
+        super(message);
+    }
+
+    public TransportException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
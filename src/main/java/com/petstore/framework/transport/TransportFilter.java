@@ -0,0 +1,39 @@
+package com.petstore.framework.transport;
+
+import com.petstore.framework.deadline.Deadline;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Terminal filter that delegates the exchange to the configured {@link HttpTransport}
+ * Runs with the lowest precedence so logging, Allure and any other filter
+ * wrap it and observe every request regardless of the transport in use.
+ * A request whose {@link Deadline} has already passed is refused before it is sent.
+ */
+public class TransportFilter implements OrderedFilter {
+
+    private final HttpTransport transport;
+
+    public TransportFilter(HttpTransport transport) {
+        this.transport = transport;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+            FilterableResponseSpecification responseSpec,
+            FilterContext ctx) {
+        Deadline deadline = Deadline.current();
+        if (deadline != null) {
+            deadline.check(requestSpec.getMethod() + " " + requestSpec.getURI());
+        }
+        return transport.execute(requestSpec, responseSpec, ctx);
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+}
@@ -0,0 +1,36 @@
+package com.petstore.framework.transport;
+
+import java.util.Arrays;
+
+/**
+ * Supported HTTP transports for the service layer
+ * Selected through the http.transport property
+ */
+public enum TransportType {
+
+    /** RestAssured's own Apache HttpClient (HTTP/1.1) */
+    REST_ASSURED("restassured"),
+
+    /** JDK java.net.http.HttpClient (HTTP/2 with HTTP/1.1 fallback) */
+    JDK("jdk");
+
+    private final String key;
+
+    TransportType(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Resolve transport by its configuration key
+     */
+    public static TransportType fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(type -> type.key.equalsIgnoreCase(key.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown HTTP transport: " + key));
+    }
+}
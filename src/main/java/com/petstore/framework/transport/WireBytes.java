@@ -0,0 +1,100 @@
+package com.petstore.framework.transport;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Counts response bytes a transport actually reads off the wire on the current thread
+ * A caller opens a {@link Count} around the exchange; the transport wraps the raw,
+ * still content-encoded body stream in {@link #counting(InputStream)}, so compressed
+ * and chunked responses are measured without trusting Content-Length.
+ */
+public final class WireBytes {
+
+    private static final ThreadLocal<Count> CURRENT = new ThreadLocal<>();
+
+    private WireBytes() {
+    }
+
+    /**
+     * Start counting the response of the next exchange on the current thread
+     */
+    public static Count start() {
+        Count count = new Count(CURRENT.get());
+        CURRENT.set(count);
+        return count;
+    }
+
+    /**
+     * Wrap a raw response body so its bytes add to the open count, if any
+     */
+    static InputStream counting(InputStream wire) {
+        Count count = CURRENT.get();
+        return count == null ? wire : count.attach(wire);
+    }
+
+    /**
+     * Wire bytes read for one exchange; closing it restores the enclosing count
+     */
+    public static final class Count implements AutoCloseable {
+
+        private final Count outer;
+        private boolean measured;
+        private long bytes;
+
+        private Count(Count outer) {
+            this.outer = outer;
+        }
+
+        /**
+         * True once a transport has attached the response body to this count
+         */
+        public boolean isMeasured() {
+            return measured;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        private InputStream attach(InputStream wire) {
+            measured = true;
+            return new FilterInputStream(wire) {
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b >= 0) {
+                        bytes++;
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int n = super.read(buffer, offset, length);
+                    if (n > 0) {
+                        bytes += n;
+                    }
+                    return n;
+                }
+
+                @Override
+                public long skip(long n) throws IOException {
+                    long skipped = super.skip(n);
+                    bytes += skipped;
+                    return skipped;
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.petstore.framework.utils;
+
+import org.slf4j.MDC;
+
+/**
+ * Identity of the test or scenario currently running on this thread
+ * Stored in the SLF4J MDC so log lines, JFR events and metrics can be tagged with it
+ */
+public final class TestContext {
+
+    public static final String TEST_ID_KEY = "testId";
+    public static final String TEST_NAME_KEY = "testName";
+
+    private TestContext() {
+    }
+
+    /**
+     * Bind a test or scenario to the current thread
+     *
+     * @param testId   unique id of this execution (e.g. the JUnit unique id)
+     * @param testName readable name used in reports
+     */
+    public static void begin(String testId, String testName) {
+        MDC.put(TEST_ID_KEY, testId);
+        MDC.put(TEST_NAME_KEY, testName);
+    }
+
+    /**
+     * Clear the test bound to the current thread
+     */
+    public static void end() {
+        MDC.remove(TEST_ID_KEY);
+        MDC.remove(TEST_NAME_KEY);
+    }
+
+    /**
+     * Unique id bound to the current thread, or null outside a test
+     */
+    public static String currentId() {
+        return MDC.get(TEST_ID_KEY);
+    }
+
+    /**
+     * Name bound to the current thread, or null outside a test
+     */
+    public static String currentName() {
+        return MDC.get(TEST_NAME_KEY);
+    }
+}
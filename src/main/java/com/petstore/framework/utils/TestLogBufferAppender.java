@@ -0,0 +1,172 @@
+package com.petstore.framework.utils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logback appender that holds each test's events in a bounded in-memory ring
+ * Events carrying a {@link TestContext#TEST_ID_KEY} MDC value are buffered per test and
+ * forwarded to the attached appenders, grouped and in order, only when the test
+ * fails or logged at/above flushLevel. Buffers of passing tests are dropped.
+ * Events logged outside a test are forwarded immediately.
+ *
+ * <pre>
+ * &lt;appender name="TEST_BUFFER" class="com.petstore.framework.utils.TestLogBufferAppender"&gt;
+ *     &lt;capacity&gt;1000&lt;/capacity&gt;
+ *     &lt;flushLevel&gt;ERROR&lt;/flushLevel&gt;
+ *     &lt;appender-ref ref="ASYNC_FILE" /&gt;
+ * &lt;/appender&gt;
+ * </pre>
+ */
+public class TestLogBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final Set<TestLogBufferAppender> ACTIVE_APPENDERS = ConcurrentHashMap.newKeySet();
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final Map<String, TestLogBuffer> buffers = new ConcurrentHashMap<>();
+    // Keeps one test's group contiguous in the downstream appenders
+    private final Object flushLock = new Object();
+
+    private int capacity = 1000;
+    private Level flushLevel = Level.ERROR;
+
+    /**
+     * Forward the buffered events of a finished test
+     *
+     * @param testId the {@link TestContext#TEST_ID_KEY} of the test
+     * @param failed whether the test failed; passing tests are forwarded only if they hit flushLevel
+     */
+    public static void testFinished(String testId, boolean failed) {
+        ACTIVE_APPENDERS.forEach(appender -> appender.finish(testId, failed));
+    }
+
+    @Override
+    public void start() {
+        if (capacity <= 0) {
+            addError("capacity must be positive for appender " + getName());
+            return;
+        }
+        ACTIVE_APPENDERS.add(this);
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        ACTIVE_APPENDERS.remove(this);
+        buffers.clear();
+        super.stop();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        String testId = event.getMDCPropertyMap().get(TestContext.TEST_ID_KEY);
+        if (testId == null) {
+            appenders.appendLoopOnAppenders(event);
+            return;
+        }
+        // Freeze message and MDC now; the event is formatted later, possibly on another thread
+        event.prepareForDeferredProcessing();
+        buffers.computeIfAbsent(testId, id -> new TestLogBuffer(capacity))
+                .add(event, event.getLevel().isGreaterOrEqual(flushLevel));
+    }
+
+    private void finish(String testId, boolean failed) {
+        TestLogBuffer buffer = buffers.remove(testId);
+        if (buffer == null) {
+            return;
+        }
+        List<ILoggingEvent> events = buffer.drainIfRetained(failed);
+        if (events.isEmpty()) {
+            return;
+        }
+        synchronized (flushLock) {
+            events.forEach(appenders::appendLoopOnAppenders);
+        }
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void setFlushLevel(String flushLevel) {
+        this.flushLevel = Level.toLevel(flushLevel, Level.ERROR);
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> newAppender) {
+        appenders.addAppender(newAppender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+
+    /**
+     * Bounded ring of one test's events; oldest events are dropped on overflow
+     */
+    private static final class TestLogBuffer {
+
+        private final int capacity;
+        private final ArrayDeque<ILoggingEvent> events;
+        private boolean retained;
+
+        private TestLogBuffer(int capacity) {
+            this.capacity = capacity;
+            this.events = new ArrayDeque<>(Math.min(capacity, 64));
+        }
+
+        private synchronized void add(ILoggingEvent event, boolean thresholdHit) {
+            if (events.size() == capacity) {
+                events.pollFirst();
+            }
+            events.addLast(event);
+            retained |= thresholdHit;
+        }
+
+        private synchronized List<ILoggingEvent> drainIfRetained(boolean failed) {
+            if (!failed && !retained) {
+                return List.of();
+            }
+            return new ArrayList<>(events);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.petstore.framework.utils;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks API calls made on the current thread as warm-up traffic
+ * Metrics skip these calls and JFR events carry the flag, so connection setup,
+ * class loading and JIT costs do not show up in measured latencies. Housekeeping
+ * calls that are not part of any test, like the orphan sweep, run in it too.
+ */
+public final class WarmUpScope {
+
+    private static final ThreadLocal<Boolean> ACTIVE = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private WarmUpScope() {
+    }
+
+    /**
+     * Run the given calls as warm-up traffic on the current thread
+     */
+    public static void run(Runnable calls) {
+        call(() -> {
+            calls.run();
+            return null;
+        });
+    }
+
+    /**
+     * Make the given call as warm-up traffic on the current thread and return its result
+     */
+    public static <T> T call(Supplier<T> call) {
+        boolean outer = ACTIVE.get();
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return call.get();
+        } finally {
+            if (!outer) {
+                ACTIVE.remove();
+            }
+        }
+    }
+
+    /**
+     * True while the current thread is inside {@link #run(Runnable)}
+     */
+    public static boolean isActive() {
+        return ACTIVE.get();
+    }
+}
@@ -0,0 +1,75 @@
+package com.petstore.framework.validation;
+
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of response schemas per endpoint
+ * Each schema file is parsed and compiled once per JVM on first use;
+ * compiled {@link JsonSchema} instances are immutable and shared by all threads
+ */
+@Slf4j
+public final class ResponseSchemas {
+
+    private static final String SCHEMA_ROOT = "resource:/schemas/";
+
+    /**
+     * Endpoint key (METHOD + path template) to schema file
+     */
+    private static final Map<String, String> ENDPOINT_SCHEMAS = Map.ofEntries(
+            Map.entry(key("POST", "/pet"), "pet.json"),
+            Map.entry(key("PUT", "/pet"), "pet.json"),
+            Map.entry(key("GET", "/pet/{petId}"), "pet.json"),
+            Map.entry(key("DELETE", "/pet/{petId}"), "api-response.json"),
+            Map.entry(key("GET", "/pet/findByStatus"), "pet-list.json"),
+            Map.entry(key("POST", "/store/order"), "order.json"),
+            Map.entry(key("GET", "/store/order/{orderId}"), "order.json"),
+            Map.entry(key("DELETE", "/store/order/{orderId}"), "api-response.json"),
+            Map.entry(key("GET", "/store/inventory"), "inventory.json"),
+            Map.entry(key("POST", "/user"), "api-response.json"),
+            Map.entry(key("GET", "/user/{username}"), "user.json"),
+            Map.entry(key("PUT", "/user/{username}"), "api-response.json"),
+            Map.entry(key("DELETE", "/user/{username}"), "api-response.json"),
+            Map.entry(key("GET", "/user/login"), "api-response.json"),
+            Map.entry(key("GET", "/user/logout"), "api-response.json"));
+
+    private static final JsonSchemaFactory FACTORY = JsonSchemaFactory.byDefault();
+    private static final Map<String, JsonSchema> COMPILED = new ConcurrentHashMap<>();
+
+    private ResponseSchemas() {
+    }
+
+    /**
+     * Endpoint key used for lookups, e.g. "GET /pet/{petId}"
+     */
+    public static String key(String method, String pathTemplate) {
+        return method + " " + pathTemplate;
+    }
+
+    /**
+     * Compiled schema for an endpoint, if one is registered
+     */
+    public static Optional<JsonSchema> forEndpoint(String method, String pathTemplate) {
+        String schemaFile = ENDPOINT_SCHEMAS.get(key(method, pathTemplate));
+        if (schemaFile == null) {
+            return Optional.empty();
+        }
+        return Optional.of(COMPILED.computeIfAbsent(schemaFile, ResponseSchemas::compile));
+    }
+
+    private static JsonSchema compile(String schemaFile) {
+        try {
+            JsonSchema schema = FACTORY.getJsonSchema(SCHEMA_ROOT + schemaFile);
+            log.debug("Compiled response schema: {}", schemaFile);
+            return schema;
+        } catch (ProcessingException e) {
+            throw new IllegalStateException("Failed to load response schema: " + schemaFile, e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.petstore.framework.validation;
+
+/**
+ * Raised when a response body does not match its endpoint schema
+ * Extends AssertionError so JUnit reports it as a test failure
+ */
+public class SchemaValidationError extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    public SchemaValidationError(String message) {
+        super(message);
+    }
+}
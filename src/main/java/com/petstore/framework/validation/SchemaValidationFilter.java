@@ -0,0 +1,81 @@
+package com.petstore.framework.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Validates successful responses against the schema registered for their endpoint
+ * With a sample rate below 1.0 (load mode) only that fraction of successful
+ * responses is parsed and validated; the rest skip straight through
+ */
+@Slf4j
+public class SchemaValidationFilter implements Filter {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final double sampleRate;
+
+    public SchemaValidationFilter(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+            FilterableResponseSpecification responseSpec,
+            FilterContext ctx) {
+
+        Response response = ctx.next(requestSpec, responseSpec);
+
+        if (!isSuccessful(response) || !isSampled()) {
+            return response;
+        }
+
+        Optional<JsonSchema> schema = ResponseSchemas.forEndpoint(
+                requestSpec.getMethod(), requestSpec.getUserDefinedPath());
+        schema.ifPresent(s -> validate(s, requestSpec, response));
+
+        return response;
+    }
+
+    private void validate(JsonSchema schema, FilterableRequestSpecification requestSpec, Response response) {
+        String endpoint = ResponseSchemas.key(requestSpec.getMethod(), requestSpec.getUserDefinedPath());
+        JsonNode body;
+        try {
+            body = MAPPER.readTree(response.asByteArray());
+        } catch (IOException e) {
+            throw new SchemaValidationError(endpoint + " returned a body that is not valid JSON: " + e.getMessage());
+        }
+        // an empty body reads as a missing node, which the validator cannot type
+        if (body.isMissingNode()) {
+            throw new SchemaValidationError(endpoint + " returned an empty body");
+        }
+
+        ProcessingReport report = schema.validateUnchecked(body);
+        if (!report.isSuccess()) {
+            log.error("Schema validation failed for {}:\n{}", endpoint, report);
+            throw new SchemaValidationError("Response of " + endpoint + " does not match its schema:\n" + report);
+        }
+        log.debug("Response of {} matches its schema", endpoint);
+    }
+
+    private boolean isSuccessful(Response response) {
+        int statusCode = response.getStatusCode();
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+}
@@ -0,0 +1,115 @@
+package com.petstore.framework.cleanup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+
+import static com.petstore.framework.cleanup.CreatedEntityJournal.HEADER_SIZE;
+import static com.petstore.framework.cleanup.CreatedEntityJournal.MAGIC;
+import static com.petstore.framework.cleanup.CreatedEntityJournal.OP_CREATED;
+import static com.petstore.framework.cleanup.CreatedEntityJournal.OP_DELETED;
+import static com.petstore.framework.cleanup.CreatedEntityJournal.RECORD_HEADER_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Created-Entity Journal")
+class CreatedEntityJournalTest {
+
+    @Test
+    @DisplayName("Should report created entities that were not deleted")
+    void shouldReplayCreatedAndDeletedRecords() {
+        ByteBuffer journal = journal(256);
+        int offset = HEADER_SIZE;
+        offset = record(journal, offset, OP_CREATED, EntityType.PET, "1");
+        offset = record(journal, offset, OP_CREATED, EntityType.PET, "2");
+        offset = record(journal, offset, OP_CREATED, EntityType.USER, "alice");
+        record(journal, offset, OP_DELETED, EntityType.PET, "1");
+
+        Map<EntityType, Set<String>> outstanding = CreatedEntityJournal.readOutstanding(journal);
+
+        assertThat(outstanding).containsOnlyKeys(EntityType.PET, EntityType.USER);
+        assertThat(outstanding.get(EntityType.PET)).containsExactly("2");
+        assertThat(outstanding.get(EntityType.USER)).containsExactly("alice");
+    }
+
+    @Test
+    @DisplayName("Should skip a torn record and keep the records after it")
+    void shouldSkipTornRecord() {
+        ByteBuffer journal = journal(256);
+        int offset = record(journal, HEADER_SIZE, OP_CREATED, EntityType.ORDER, "7");
+        // Reserved and length-stamped, but the writer died before the marker
+        journal.putShort(offset + 1, (short) 2);
+        offset += RECORD_HEADER_SIZE + 2;
+        record(journal, offset, OP_CREATED, EntityType.ORDER, "9");
+
+        Map<EntityType, Set<String>> outstanding = CreatedEntityJournal.readOutstanding(journal);
+
+        assertThat(outstanding.get(EntityType.ORDER)).containsExactly("7", "9");
+    }
+
+    @Test
+    @DisplayName("Should stop at the first unreserved slot")
+    void shouldStopAtZeroLength() {
+        ByteBuffer journal = journal(256);
+        int offset = record(journal, HEADER_SIZE, OP_CREATED, EntityType.PET, "3");
+        // Garbage after the end of the records must not be read as records
+        journal.put(offset + RECORD_HEADER_SIZE, (byte) 0x11);
+
+        assertThat(CreatedEntityJournal.readOutstanding(journal).get(EntityType.PET)).containsExactly("3");
+    }
+
+    @Test
+    @DisplayName("Should ignore content without the journal header")
+    void shouldIgnoreForeignContent() {
+        ByteBuffer journal = ByteBuffer.allocate(64);
+        record(journal, HEADER_SIZE, OP_CREATED, EntityType.PET, "4");
+
+        assertThat(CreatedEntityJournal.readOutstanding(journal)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should publish a complete, locked journal under its final name")
+    void shouldPublishLockedJournal(@TempDir Path dir) throws IOException {
+        CreatedEntityJournal journal = CreatedEntityJournal.create(dir, "run-1", 4096);
+        journal.created(EntityType.PET, 5L);
+        journal.created(EntityType.USER, "bob");
+        journal.deleted(EntityType.USER, "bob");
+
+        try (var files = Files.list(dir)) {
+            assertThat(files).containsExactly(dir.resolve("run-1" + CreatedEntityJournal.FILE_SUFFIX));
+        }
+        try (FileChannel channel = FileChannel.open(journal.getFile(), StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            Map<EntityType, Set<String>> outstanding = CreatedEntityJournal.readOutstanding(
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            assertThat(outstanding).containsOnlyKeys(EntityType.PET);
+            assertThat(outstanding.get(EntityType.PET)).containsExactly("5");
+        }
+
+        journal.close();
+        assertThat(journal.getFile()).exists();
+    }
+
+    private static ByteBuffer journal(int capacity) {
+        ByteBuffer journal = ByteBuffer.allocate(capacity);
+        journal.putInt(0, MAGIC);
+        return journal;
+    }
+
+    private static int record(ByteBuffer journal, int offset, int operation, EntityType type, String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        journal.putShort(offset + 1, (short) keyBytes.length);
+        journal.put(offset + RECORD_HEADER_SIZE, keyBytes);
+        journal.put(offset, (byte) (operation << 4 | type.code()));
+        return offset + RECORD_HEADER_SIZE + keyBytes.length;
+    }
+}
@@ -0,0 +1,52 @@
+package com.petstore.framework.inventory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Inventory Estimator")
+class InventoryEstimatorTest {
+
+    private final InventoryEstimator estimator = new InventoryEstimator();
+
+    @Test
+    @DisplayName("Should apply pet changes made after the last snapshot")
+    void shouldEstimateFromLastSnapshot() {
+        estimator.petSaved(1L, StoreInventory.AVAILABLE);
+        estimator.observe(StoreInventory.builder().add(StoreInventory.AVAILABLE, 10).build());
+
+        estimator.petSaved(2L, StoreInventory.PENDING);
+        estimator.petUpdated(1L, StoreInventory.SOLD);
+        estimator.petDeleted(2L);
+
+        assertThat(estimator.estimate()).isEqualTo(StoreInventory.builder()
+                .add(StoreInventory.AVAILABLE, 9)
+                .add(StoreInventory.SOLD, 1)
+                .build());
+        assertThat(estimator.changes()).isEqualTo(StoreInventory.builder().add(StoreInventory.SOLD, 1).build());
+        assertThat(estimator.getUntrackedUpdates()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should count updates of pets it did not see saved as untracked")
+    void shouldCountUntrackedUpdates() {
+        estimator.petUpdated(7L, StoreInventory.SOLD);
+        estimator.petDeleted(8L);
+
+        assertThat(estimator.getUntrackedUpdates()).isEqualTo(1);
+        assertThat(estimator.changes()).isEqualTo(StoreInventory.builder().add(StoreInventory.SOLD, 1).build());
+    }
+
+    @Test
+    @DisplayName("Should tally open orders apart from the pet inventory")
+    void shouldTallyOpenOrders() {
+        estimator.orderPlaced(1L, "placed");
+        estimator.orderPlaced(2L, "placed");
+        estimator.orderPlaced(2L, "approved");
+        estimator.orderDeleted(1L);
+
+        assertThat(estimator.openOrders()).isEqualTo(StoreInventory.builder().add("approved", 1).build());
+        assertThat(estimator.estimate().isEmpty()).isTrue();
+    }
+}
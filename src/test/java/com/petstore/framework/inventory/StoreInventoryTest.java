@@ -0,0 +1,79 @@
+package com.petstore.framework.inventory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Store Inventory")
+class StoreInventoryTest {
+
+    @Test
+    @DisplayName("Should parse counts from the response stream")
+    void shouldParseCounts() {
+        StoreInventory inventory = parse("{\"sold\": 3, \"available\": 12, \"pending\": null, \"Available\": 1}");
+
+        assertThat(inventory.getAvailable()).isEqualTo(12);
+        assertThat(inventory.getSold()).isEqualTo(3);
+        assertThat(inventory.getPending()).isZero();
+        assertThat(inventory.count("Available")).isEqualTo(1);
+        assertThat(inventory.count("unknown")).isZero();
+        assertThat(inventory.getStatuses()).containsExactly("Available", "available", "sold");
+        assertThat(inventory.total()).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Should reject a body that is not a status-to-count object")
+    void shouldRejectInvalidBody() {
+        assertThatThrownBy(() -> parse("[1, 2]")).isInstanceOf(InventoryException.class);
+        assertThatThrownBy(() -> parse("{\"sold\": \"many\"}")).isInstanceOf(InventoryException.class)
+                .hasMessageContaining("sold");
+        assertThatThrownBy(() -> parse("{\"sold\": 1")).isInstanceOf(InventoryException.class);
+    }
+
+    @Test
+    @DisplayName("Should diff and apply snapshots status by status")
+    void shouldDiffAndApply() {
+        StoreInventory before = parse("{\"available\": 5, \"pending\": 2, \"sold\": 1}");
+        StoreInventory after = parse("{\"available\": 4, \"pending\": 2, \"sold\": 2, \"lost\": 1}");
+
+        StoreInventory diff = after.minus(before);
+
+        assertThat(diff.getStatuses()).containsExactly("available", "lost", "sold");
+        assertThat(diff.getAvailable()).isEqualTo(-1);
+        assertThat(diff.getSold()).isEqualTo(1);
+        assertThat(diff.count("lost")).isEqualTo(1);
+        assertThat(before.plus(diff)).isEqualTo(after);
+        assertThat(after.minus(after).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should treat a listed zero count like a missing status")
+    void shouldIgnoreZeroCounts() {
+        StoreInventory withZero = parse("{\"available\": 0, \"sold\": 2}");
+        StoreInventory withoutZero = parse("{\"sold\": 2}");
+        StoreInventory emptied = parse("{\"available\": 1, \"sold\": 2}")
+                .plus(StoreInventory.builder().add(StoreInventory.AVAILABLE, -1).build());
+
+        assertThat(withZero).isEqualTo(withoutZero).isEqualTo(emptied);
+        assertThat(withZero.hashCode()).isEqualTo(emptied.hashCode());
+    }
+
+    @Test
+    @DisplayName("Should merge repeated statuses in the builder")
+    void shouldMergeRepeatedStatuses() {
+        StoreInventory inventory = StoreInventory.builder()
+                .add("sold", 1).add("available", 2).add("sold", 4).add("pending", 1).add("pending", -1)
+                .build();
+
+        assertThat(inventory.toString()).isEqualTo("{available=2, sold=5}");
+    }
+
+    private static StoreInventory parse(String json) {
+        return StoreInventory.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,96 @@
+package com.petstore.framework.jfr;
+
+import com.petstore.framework.transport.TransportException;
+import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.specification.RequestSpecification;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JFR Event Filter")
+class JfrEventFilterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Should commit the event of a completed call with its status")
+    void shouldCommitCompletedCall() throws IOException {
+        String environment = "jfr-filter-test-completed";
+
+        List<RecordedEvent> events = record(environment, () -> given(environment, (requestSpec, responseSpec, ctx) ->
+                new ResponseBuilder().setStatusCode(201).setBody("{}").build()).post("/pet"));
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("method")).isEqualTo("POST");
+            assertThat(event.getString("pathTemplate")).isEqualTo("/pet");
+            assertThat(event.getInt("status")).isEqualTo(201);
+            assertThat(event.getBoolean("failed")).isFalse();
+            assertThat(event.getString("exception")).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Should commit the event of a call that threw, marked failed")
+    void shouldCommitFailedCall() throws IOException {
+        String environment = "jfr-filter-test-failed";
+
+        List<RecordedEvent> events = record(environment, () -> assertThatThrownBy(() ->
+                given(environment, (requestSpec, responseSpec, ctx) -> {
+                    throw new TransportException("connection reset");
+                }).get("/pet/{petId}", 7))
+                .isInstanceOf(TransportException.class));
+
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getString("pathTemplate")).isEqualTo("/pet/{petId}");
+            assertThat(event.getInt("status")).isZero();
+            assertThat(event.getBoolean("failed")).isTrue();
+            assertThat(event.getString("exception")).isEqualTo(TransportException.class.getName());
+        });
+    }
+
+    private List<RecordedEvent> record(String environment, Runnable calls) throws IOException {
+        Path file = dir.resolve("api-calls.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(ApiCallEvent.NAME);
+            recording.start();
+            calls.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> environment.equals(event.getString("environment")))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Request whose exchange is answered by the given terminal filter instead of a server
+     */
+    private RequestSpecification given(String environment, TerminalFilter terminal) {
+        return RestAssured.given()
+                .baseUri("http://127.0.0.1:1")
+                .filter(new JfrEventFilter(environment))
+                .filter(terminal);
+    }
+
+    private interface TerminalFilter extends OrderedFilter {
+
+        @Override
+        default int getOrder() {
+            return LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.petstore.framework.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Latency Regression Gate")
+class LatencyRegressionGateTest {
+
+    private final LatencyRegressionGate gate = new LatencyRegressionGate(0.5, 50, 0.01, 8, 2.0, 0.05);
+
+    @Test
+    @DisplayName("Should take nearest-rank percentiles")
+    void shouldTakeNearestRankPercentiles() {
+        double[] sorted = IntStream.rangeClosed(1, 10).asDoubleStream().toArray();
+
+        assertThat(LatencySamples.percentile(sorted, 50)).isEqualTo(5.0);
+        assertThat(LatencySamples.percentile(sorted, 95)).isEqualTo(10.0);
+        assertThat(LatencySamples.percentile(sorted, 0)).isEqualTo(1.0);
+        assertThat(LatencySamples.percentile(new double[0], 50)).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("Should compute the one-sided Mann-Whitney p-value")
+    void shouldComputeMannWhitneyPValue() {
+        // U = 9, mean 4.5, variance 5.25, z = (9 - 4.5 - 0.5) / sqrt(5.25)
+        assertThat(LatencyRegressionGate.mannWhitneyGreaterPValue(new double[]{4, 5, 6}, new double[]{1, 2, 3}))
+                .isCloseTo(0.0404, within(1e-3));
+        assertThat(LatencyRegressionGate.mannWhitneyGreaterPValue(new double[]{1, 2, 3}, new double[]{4, 5, 6}))
+                .isGreaterThan(0.95);
+
+        double[] same = latencies(100, 30);
+        assertThat(LatencyRegressionGate.mannWhitneyGreaterPValue(same, same)).isGreaterThan(0.4);
+        assertThat(LatencyRegressionGate.mannWhitneyGreaterPValue(new double[]{5, 5, 5}, new double[]{5, 5, 5}))
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should flag an endpoint that got clearly slower")
+    void shouldFlagRegression() {
+        LatencyComparison comparison = gate.compare("GET /pet/{petId}", latencies(100, 30), latencies(300, 30), 1.0);
+
+        assertThat(comparison.getVerdict()).isEqualTo(LatencyComparison.Verdict.REGRESSION);
+    }
+
+    @Test
+    @DisplayName("Should divide run-wide drift out of a slower run")
+    void shouldDivideOutDrift() {
+        LatencyComparison comparison = gate.compare("GET /pet/{petId}", latencies(100, 30), latencies(200, 30), 2.0);
+
+        assertThat(comparison.getVerdict()).isEqualTo(LatencyComparison.Verdict.OK);
+    }
+
+    @Test
+    @DisplayName("Should not scale up unchanged endpoints of a faster run")
+    void shouldNotScaleUpFasterRun() {
+        LatencyComparison comparison = gate.compare("GET /pet/{petId}", latencies(100, 30), latencies(100, 30), 0.4);
+
+        assertThat(comparison.getVerdict()).isEqualTo(LatencyComparison.Verdict.OK);
+    }
+
+    @Test
+    @DisplayName("Should not gate endpoints with too few samples")
+    void shouldReportInsufficientData() {
+        LatencyComparison comparison = gate.compare("GET /pet/{petId}", latencies(100, 30), latencies(900, 5), 1.0);
+
+        assertThat(comparison.getVerdict()).isEqualTo(LatencyComparison.Verdict.INSUFFICIENT_DATA);
+    }
+
+    @Test
+    @DisplayName("Should take the median p50 ratio as drift")
+    void shouldComputeDrift() {
+        LatencyBaseline baseline = new LatencyBaseline(Map.of(
+                "a", latencies(100, 10), "b", latencies(100, 10), "c", latencies(100, 10)));
+        Map<String, double[]> current = Map.of(
+                "a", latencies(150, 10), "b", latencies(200, 10), "c", latencies(1000, 10));
+
+        assertThat(gate.drift(current, baseline)).isCloseTo(2.0, within(0.05));
+        assertThat(gate.drift(Map.of("a", latencies(300, 10)), baseline)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should flag an endpoint whose calls started failing, even if its successful calls got faster")
+    void shouldFlagErrorRateRegression() {
+        LatencyComparison latency = gate.compare("GET /pet/{petId}", latencies(100, 30), latencies(80, 20), 1.0);
+
+        LatencyComparison comparison = gate.compareErrors(latency, 30, 0, 30, 10);
+
+        assertThat(latency.getVerdict()).isEqualTo(LatencyComparison.Verdict.OK);
+        assertThat(comparison.getVerdict()).isEqualTo(LatencyComparison.Verdict.ERROR_RATE_REGRESSION);
+        assertThat(comparison.getCurrentErrorRate()).isCloseTo(1 / 3.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("Should not flag a small or unconfirmed rise in the error rate")
+    void shouldToleratePlausibleErrorRate() {
+        LatencyComparison latency = gate.compare("GET /pet/{petId}", latencies(100, 30), latencies(100, 30), 1.0);
+
+        assertThat(gate.compareErrors(latency, 100, 1, 100, 3).getVerdict())
+                .isEqualTo(LatencyComparison.Verdict.OK);
+        assertThat(gate.compareErrors(latency, 30, 0, 4, 4).getVerdict())
+                .isEqualTo(LatencyComparison.Verdict.OK);
+        assertThat(LatencyRegressionGate.proportionGreaterPValue(0, 30, 0, 30)).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Should fail the gate when a hanging endpoint only shows up as errors")
+    void shouldFailGateOnHangingEndpoint() {
+        ApiMetrics metrics = ApiMetrics.forEnvironment("latency-gate-test-hanging");
+        EndpointMetrics endpoint = metrics.endpoint("GET", "/store/order/{orderId}");
+        for (int i = 0; i < 20; i++) {
+            if (i % 2 == 0) {
+                endpoint.recordFailure(5_000_000_000L, 0, 0);
+            } else {
+                endpoint.record(200, 40_000_000L, 0, 0, 100, 100);
+            }
+        }
+        LatencyBaseline baseline = new LatencyBaseline(
+                Map.of("GET /store/order/{orderId}", latencies(50, 20)),
+                Map.of("GET /store/order/{orderId}", new long[]{20, 0}));
+
+        LatencyGateReport report = gate.compare(metrics, baseline);
+
+        assertThat(report.isPassed()).isFalse();
+        assertThat(report.getRegressions()).singleElement()
+                .extracting(LatencyComparison::getVerdict)
+                .isEqualTo(LatencyComparison.Verdict.ERROR_RATE_REGRESSION);
+    }
+
+    @Test
+    @DisplayName("Should keep call counts in the baseline file and still read latency-only files")
+    void shouldRoundTripBaseline(@TempDir Path dir) throws IOException {
+        ApiMetrics metrics = ApiMetrics.forEnvironment("latency-gate-test-baseline");
+        EndpointMetrics endpoint = metrics.endpoint("GET", "/pet/{petId}");
+        endpoint.record(200, 40_000_000L, 0, 0, 100, 100);
+        endpoint.recordFailure(5_000_000_000L, 0, 0);
+        Path file = dir.resolve("latency-test.json");
+
+        new LatencyBaseline(Map.of()).mergedWith(metrics).save(file);
+        LatencyBaseline saved = LatencyBaseline.load(file);
+
+        assertThat(saved.callCounts("GET /pet/{petId}")).containsExactly(2, 1);
+        assertThat(saved.samples("GET /pet/{petId}")).containsExactly(40.0);
+
+        Path legacy = dir.resolve("latency-legacy.json");
+        Files.writeString(legacy, "{\"GET /pet/{petId}\": [40.0, 42.0]}");
+        LatencyBaseline legacyBaseline = LatencyBaseline.load(legacy);
+
+        assertThat(legacyBaseline.samples("GET /pet/{petId}")).containsExactly(40.0, 42.0);
+        assertThat(legacyBaseline.callCounts("GET /pet/{petId}")).containsExactly(0, 0);
+    }
+
+    /**
+     * Sorted latencies spread +-10% around the given median
+     */
+    private static double[] latencies(double median, int count) {
+        double[] values = IntStream.range(0, count)
+                .mapToDouble(i -> median * (0.9 + 0.2 * i / (count - 1)))
+                .toArray();
+        Arrays.sort(values);
+        return values;
+    }
+}
@@ -0,0 +1,138 @@
+package com.petstore.framework.metrics;
+
+import com.petstore.framework.deadline.Deadline;
+import com.petstore.framework.deadline.DeadlineExceededException;
+import com.petstore.framework.transport.HttpTransport;
+import com.petstore.framework.transport.JdkHttpTransport;
+import com.petstore.framework.transport.RestAssuredTransport;
+import com.petstore.framework.transport.TransportFilter;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Metrics Filter")
+class MetricsFilterTest {
+
+    private static final String BODY = "{\"status\":\"available\"}".repeat(200);
+    private static final Duration STALL = Duration.ofSeconds(3);
+    private static final Duration DEADLINE = Duration.ofMillis(1000);
+
+    private static HttpServer server;
+    private static byte[] gzipped;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        gzipped = gzip(BODY.getBytes(StandardCharsets.UTF_8));
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/chunked", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            // length 0: chunked transfer encoding, no Content-Length header
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(gzipped);
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(STALL.toMillis());
+                exchange.sendResponseHeaders(204, -1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        // stalled exchanges must not block the others
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+
+    static Stream<Arguments> transports() {
+        Duration timeout = Duration.ofSeconds(5);
+        return Stream.of(
+                Arguments.of(new RestAssuredTransport(timeout, timeout)),
+                Arguments.of(new JdkHttpTransport(timeout, timeout, true)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    @DisplayName("Should count the compressed bytes of a chunked response as its wire size")
+    void shouldCountWireBytesOfChunkedResponse(HttpTransport transport) {
+        ApiMetrics metrics = ApiMetrics.forEnvironment("metrics-filter-test-" + transport.getType().getKey());
+
+        String body = given(metrics, transport)
+                .get("/chunked")
+                .asString();
+
+        EndpointMetrics endpoint = metrics.endpoint("GET", "/chunked");
+        assertThat(body).isEqualTo(BODY);
+        assertThat(endpoint.getResponseLogicalBytes()).isEqualTo(BODY.length());
+        assertThat(endpoint.getResponseWireBytes()).isEqualTo(gzipped.length);
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    @DisplayName("Should record a call that stalled past its deadline as an error with its elapsed time")
+    void shouldRecordStalledCallAsError(HttpTransport transport) {
+        ApiMetrics metrics = ApiMetrics.forEnvironment("metrics-filter-test-slow-" + transport.getType().getKey());
+        // load RestAssured and open the connection first, so the deadline is spent waiting on the server
+        given(metrics, transport).get("/chunked");
+
+        assertThatThrownBy(() -> Deadline.within(DEADLINE, () -> given(metrics, transport).get("/slow")))
+                .isInstanceOf(DeadlineExceededException.class);
+
+        EndpointMetrics endpoint = metrics.endpoint("GET", "/slow");
+        assertThat(endpoint.getCalls()).isEqualTo(1);
+        assertThat(endpoint.getErrors()).isEqualTo(1);
+        assertThat(endpoint.getLatencySamples().toSortedMillis()).isEmpty();
+        assertThat(endpoint.getAverageLatencyMillis())
+                .isGreaterThanOrEqualTo(DEADLINE.toMillis() * 0.9)
+                .isLessThan(STALL.toMillis());
+    }
+
+    private static RequestSpecification given(ApiMetrics metrics, HttpTransport transport) {
+        return RestAssured.given()
+                .baseUri("http://127.0.0.1:" + server.getAddress().getPort())
+                .config(RestAssuredConfig.config().decoderConfig(DecoderConfig.decoderConfig()
+                        .contentDecoders(DecoderConfig.ContentDecoder.GZIP)))
+                .filter(new MetricsFilter(metrics))
+                .filter(new TransportFilter(transport));
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,181 @@
+package com.petstore.framework.reporting;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.Step;
+import io.qameta.allure.model.Parameter;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Drives {@link Step} methods through a lifecycle writing to memory
+ * Isolated and sequential: the Allure lifecycle is global, no other test may report while it is swapped.
+ */
+@Isolated
+@Execution(ExecutionMode.SAME_THREAD)
+@DisplayName("Step Reporter")
+class StepReporterTest {
+
+    private final InMemoryResultsWriter results = new InMemoryResultsWriter();
+    private final Steps steps = new Steps();
+    private AllureLifecycle original;
+    private AllureLifecycle lifecycle;
+
+    @BeforeEach
+    void swapLifecycle() {
+        original = Allure.getLifecycle();
+        lifecycle = new AllureLifecycle(results);
+        Allure.setLifecycle(lifecycle);
+    }
+
+    @AfterEach
+    void restoreLifecycle() {
+        Allure.setLifecycle(original);
+    }
+
+    @Test
+    @DisplayName("Should name the step from its template and report the caller's arguments as parameters")
+    void shouldReportPassedStep() {
+        List<StepResult> reported = run(() -> assertThat(steps.findPet(7L, "sold")).isEqualTo("Rex"));
+
+        assertThat(reported).singleElement().satisfies(step -> {
+            assertThat(step.getName()).isEqualTo("Find pet 7 with status sold");
+            assertThat(step.getStatus()).isEqualTo(Status.PASSED);
+            assertThat(step.getParameters()).extracting(Parameter::getName, Parameter::getValue)
+                    .containsExactly(tuple("petId", "7"), tuple("status", "sold"));
+        });
+    }
+
+    @Test
+    @DisplayName("Should use the method name for an empty template")
+    void shouldNameStepAfterMethod() {
+        List<StepResult> reported = run(steps::logout);
+
+        assertThat(reported).singleElement().extracting(StepResult::getName).isEqualTo("logout");
+    }
+
+    @Test
+    @DisplayName("Should mark a step failed on an assertion error and broken on any other exception")
+    void shouldReportFailedAndBrokenSteps() {
+        List<StepResult> reported = run(() -> {
+            assertThatThrownBy(() -> steps.verifyStatus(404)).isInstanceOf(AssertionError.class);
+            assertThatThrownBy(() -> steps.deletePet(7L)).isInstanceOf(IllegalStateException.class);
+        });
+
+        assertThat(reported).extracting(StepResult::getName, StepResult::getStatus).containsExactly(
+                tuple("Verify status 404", Status.FAILED),
+                tuple("Delete pet 7", Status.BROKEN));
+        assertThat(reported.get(0).getStatusDetails().getMessage()).isEqualTo("expected 200 but was 404");
+    }
+
+    @Test
+    @DisplayName("Should nest a step called from another step under it")
+    void shouldNestSteps() {
+        List<StepResult> reported = run(() -> steps.createAndFindPet("Rex"));
+
+        assertThat(reported).singleElement().satisfies(outer -> {
+            assertThat(outer.getName()).isEqualTo("Create and find pet Rex");
+            assertThat(outer.getStatus()).isEqualTo(Status.PASSED);
+            assertThat(outer.getSteps()).extracting(StepResult::getName)
+                    .containsExactly("Find pet 1 with status available");
+        });
+    }
+
+    @Test
+    @DisplayName("Should just run the body of a method without @Step")
+    void shouldNotReportUnannotatedMethod() {
+        List<StepResult> reported = run(() -> assertThat(steps.unannotated()).isEqualTo(42));
+
+        assertThat(reported).isEmpty();
+    }
+
+    /**
+     * Run the calls inside a test case of the in-memory lifecycle and return its top-level steps
+     */
+    private List<StepResult> run(Runnable calls) {
+        String uuid = UUID.randomUUID().toString();
+        lifecycle.scheduleTestCase(new TestResult().setUuid(uuid));
+        lifecycle.startTestCase(uuid);
+        try {
+            calls.run();
+        } finally {
+            lifecycle.stopTestCase(uuid);
+            lifecycle.writeTestCase(uuid);
+        }
+        return results.testResults.get(uuid).getSteps();
+    }
+
+    static class Steps {
+
+        @Step("Find pet {petId} with status {status}")
+        String findPet(long petId, String status) {
+            return StepReporter.step(() -> "Rex", petId, status);
+        }
+
+        @Step
+        void logout() {
+            StepReporter.step(() -> null);
+        }
+
+        @Step("Verify status {0}")
+        void verifyStatus(int status) {
+            StepReporter.step(() -> {
+                throw new AssertionError("expected 200 but was " + status);
+            }, status);
+        }
+
+        @Step("Delete pet {petId}")
+        void deletePet(long petId) {
+            StepReporter.step(() -> {
+                throw new IllegalStateException("backend unavailable");
+            }, petId);
+        }
+
+        @Step("Create and find pet {name}")
+        String createAndFindPet(String name) {
+            return StepReporter.step(() -> findPet(1L, "available"), name);
+        }
+
+        int unannotated() {
+            return StepReporter.step(() -> 42);
+        }
+    }
+
+    private static final class InMemoryResultsWriter implements AllureResultsWriter {
+
+        private final Map<String, TestResult> testResults = new ConcurrentHashMap<>();
+
+        @Override
+        public void write(TestResult testResult) {
+            testResults.put(testResult.getUuid(), testResult);
+        }
+
+        @Override
+        public void write(TestResultContainer testResultContainer) {
+        }
+
+        @Override
+        public void write(String source, InputStream attachment) {
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.petstore.framework.scenario;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Scenario Runner")
+class ScenarioRunnerTest {
+
+    @Test
+    @DisplayName("Should fail an error response and skip the steps depending on it")
+    void shouldFailErrorResponse() {
+        Scenario scenario = Scenario.named("error-response")
+                .step("get", ctx -> response(404))
+                .step("use", List.of("get"), ctx -> response(200))
+                .build();
+
+        ScenarioReport report = new ScenarioRunner(2).run(scenario, 3);
+
+        assertThat(report.getFailedInstanceCount()).isEqualTo(3);
+        ScenarioResult result = report.getFailedInstances().get(0);
+        assertThat(result.getFailures().get("get")).isInstanceOf(ScenarioStepException.class)
+                .hasMessageContaining("404");
+        assertThat(result.getSkipped()).containsExactly("use");
+        assertThat(report.summary())
+                .containsPattern("\\(instance total\\)\\s+runs=3\\s+failed=3\\s")
+                .containsPattern("use\\s+runs=0\\s+failed=0\\s+skipped=3\\s");
+    }
+
+    @Test
+    @DisplayName("Should accept a status listed as expected")
+    void shouldAcceptExpectedStatus() {
+        Scenario scenario = Scenario.named("expected-status")
+                .step("getDeleted", ctx -> response(404))
+                .expectStatus(404)
+                .step("create", ctx -> response(201))
+                .expectStatus(200)
+                .build();
+
+        ScenarioReport report = new ScenarioRunner(2).run(scenario, 2);
+
+        assertThat(report.getFailedInstanceCount()).isEqualTo(2);
+        ScenarioResult result = report.getFailedInstances().get(0);
+        assertThat(result.getFailures()).containsOnlyKeys("create");
+    }
+
+    private static Response response(int status) {
+        return new ResponseBuilder().setStatusCode(status).setBody("{}").build();
+    }
+}
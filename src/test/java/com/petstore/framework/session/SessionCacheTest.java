@@ -0,0 +1,49 @@
+package com.petstore.framework.session;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Session Cache")
+class SessionCacheTest {
+
+    private final SessionCache cache = new SessionCache(Clock.systemUTC());
+
+    @Test
+    @Timeout(5)
+    @DisplayName("Should retry the login after a login that failed with an Error")
+    void shouldRetryAfterLoginError() {
+        assertThatThrownBy(() -> cache.get("alice", user -> {
+            throw new AssertionError("invalid login response");
+        })).isInstanceOf(AssertionError.class);
+
+        UserSession session = cache.get("alice", this::session);
+
+        assertThat(session.getToken()).isEqualTo("token-alice");
+        assertThat(cache.getLoginCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should serve an unexpired session from the cache")
+    void shouldServeCachedSession() {
+        cache.get("bob", this::session);
+
+        UserSession session = cache.get("bob", user -> {
+            throw new IllegalStateException("should not log in again");
+        });
+
+        assertThat(session.getUsername()).isEqualTo("bob");
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+
+    private UserSession session(String username) {
+        return new UserSession(username, "token-" + username, Instant.now().plus(1, ChronoUnit.HOURS));
+    }
+}
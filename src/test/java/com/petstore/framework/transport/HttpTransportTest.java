@@ -0,0 +1,220 @@
+package com.petstore.framework.transport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petstore.framework.deadline.Deadline;
+import com.petstore.framework.deadline.DeadlineExceededException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("HTTP Transport")
+class HttpTransportTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration STALL = Duration.ofSeconds(6);
+    private static final Duration DEADLINE = Duration.ofSeconds(1);
+    private static final Duration MARGIN = Duration.ofMillis(1500);
+
+    private static HttpServer server;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/echo", HttpTransportTest::echo);
+        server.createContext("/created", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.getResponseHeaders().add("X-Request-Id", "req-42");
+            respond(exchange, 201, "{\"id\":7,\"name\":\"Rex\"}");
+        });
+        server.createContext("/stall/headers", exchange -> stall(exchange, false));
+        server.createContext("/stall/body", exchange -> stall(exchange, true));
+        // stalled exchanges must not block the others
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+        ((ExecutorService) server.getExecutor()).shutdownNow();
+    }
+
+    static Stream<Arguments> transports() {
+        return Stream.of(
+                Arguments.of(new RestAssuredTransport(TIMEOUT, TIMEOUT)),
+                Arguments.of(new JdkHttpTransport(TIMEOUT, TIMEOUT, false)));
+    }
+
+    /**
+     * Each transport against a server that stalls before the headers, and after the headers mid-body
+     */
+    static Stream<Arguments> stalls() {
+        return transports().flatMap(transport -> Stream.of("/stall/headers", "/stall/body")
+                .map(path -> Arguments.of(transport.get()[0], path)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    @DisplayName("Should send the method, path and query params, headers, cookies and body")
+    void shouldMapRequest(HttpTransport transport) {
+        JsonPath echo = given(transport)
+                .contentType(ContentType.JSON)
+                .header("X-Trace", "trace-1")
+                .cookie("session", "abc123")
+                .cookie("locale", "en")
+                .pathParam("petId", 7)
+                .queryParam("status", "sold out")
+                .body("{\"name\":\"Rex\"}")
+                .put("/echo/pet/{petId}")
+                .jsonPath();
+
+        assertThat(echo.getString("method")).isEqualTo("PUT");
+        assertThat(echo.getString("path")).isEqualTo("/echo/pet/7");
+        assertThat(echo.getString("query")).isEqualTo("status=sold%20out");
+        assertThat(echo.getString("trace")).isEqualTo("trace-1");
+        assertThat(echo.getList("cookies")).containsExactly("session=abc123; locale=en");
+        assertThat(echo.getString("contentType")).startsWith("application/json");
+        assertThat(echo.getString("body")).isEqualTo("{\"name\":\"Rex\"}");
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    @DisplayName("Should return the status, headers, content type and body of the response")
+    void shouldMapResponse(HttpTransport transport) {
+        Response response = given(transport).post("/created");
+
+        assertThat(response.getStatusCode()).isEqualTo(201);
+        assertThat(response.getHeader("X-Request-Id")).isEqualTo("req-42");
+        assertThat(response.getContentType()).startsWith("application/json");
+        assertThat(response.jsonPath().getInt("id")).isEqualTo(7);
+        assertThat(response.jsonPath().getString("name")).isEqualTo("Rex");
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    @DisplayName("Should send form params, and plain params of a POST, URL-encoded in the body")
+    void shouldSendFormParams(HttpTransport transport) {
+        JsonPath echo = given(transport)
+                .formParam("name", "Rex the 2nd")
+                .param("status", "sold")
+                .post("/echo/pet/7")
+                .jsonPath();
+
+        assertThat(echo.getString("contentType")).startsWith("application/x-www-form-urlencoded");
+        assertThat(echo.getString("query")).isNull();
+        // RestAssured encodes spaces as %20, URLEncoder as +; both decode the same
+        assertThat(Stream.of(echo.getString("body").split("&"))
+                .map(pair -> URLDecoder.decode(pair, StandardCharsets.UTF_8)))
+                .containsExactlyInAnyOrder("name=Rex the 2nd", "status=sold");
+    }
+
+    @Test
+    @DisplayName("Should refuse multipart requests on the JDK transport")
+    void shouldRefuseMultipartOnJdkTransport() {
+        RequestSpecification request = given(new JdkHttpTransport(TIMEOUT, TIMEOUT, false))
+                .multiPart("file", "pet.txt", "Rex".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> request.post("/echo/pet/7/uploadImage"))
+                .isInstanceOf(TransportException.class)
+                .hasMessageContaining("Multipart");
+    }
+
+    @ParameterizedTest(name = "{0} {1}")
+    @MethodSource("stalls")
+    @DisplayName("Should abort a call stalled past its deadline and keep the transport usable")
+    void shouldAbortStalledCallAtDeadline(HttpTransport transport, String path) {
+        // load RestAssured and open a connection first, so the deadline is spent waiting on the server
+        given(transport).post("/created");
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> Deadline.within(DEADLINE, () -> given(transport).get(path)))
+                .isInstanceOf(DeadlineExceededException.class);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        assertThat(elapsed).isLessThan(DEADLINE.plus(MARGIN));
+        assertThat(given(transport).post("/created").getStatusCode()).isEqualTo(201);
+    }
+
+    @ParameterizedTest
+    @MethodSource("transports")
+    @DisplayName("Should raise a response timeout without a deadline as a TransportException")
+    void shouldRaiseTimeoutAsTransportException(HttpTransport configured) {
+        HttpTransport transport = configured.getType() == TransportType.JDK
+                ? new JdkHttpTransport(TIMEOUT, DEADLINE, false)
+                : new RestAssuredTransport(TIMEOUT, DEADLINE);
+
+        assertThatThrownBy(() -> given(transport).get("/stall/headers"))
+                .isInstanceOf(TransportException.class);
+    }
+
+    private static RequestSpecification given(HttpTransport transport) {
+        return RestAssured.given()
+                .baseUri("http://127.0.0.1:" + server.getAddress().getPort())
+                .filter(new TransportFilter(transport));
+    }
+
+    private static void echo(HttpExchange exchange) throws IOException {
+        Map<String, Object> echo = new LinkedHashMap<>();
+        echo.put("method", exchange.getRequestMethod());
+        echo.put("path", exchange.getRequestURI().getPath());
+        echo.put("query", exchange.getRequestURI().getRawQuery());
+        echo.put("trace", exchange.getRequestHeaders().getFirst("X-Trace"));
+        echo.put("cookies", exchange.getRequestHeaders().get("Cookie"));
+        echo.put("contentType", exchange.getRequestHeaders().getFirst("Content-Type"));
+        echo.put("body", new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        respond(exchange, 200, MAPPER.writeValueAsString(echo));
+    }
+
+    private static void stall(HttpExchange exchange, boolean afterHeaders) throws IOException {
+        try (OutputStream out = exchange.getResponseBody()) {
+            if (afterHeaders) {
+                exchange.sendResponseHeaders(200, 1024);
+                out.write(new byte[16]);
+                out.flush();
+            }
+            Thread.sleep(STALL.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // the client gave up first
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.petstore.framework.utils;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Test Log Buffer Appender")
+class TestLogBufferAppenderTest {
+
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final ListAppender<ILoggingEvent> console = new ListAppender<>();
+    private final ListAppender<ILoggingEvent> file = new ListAppender<>();
+    private final TestLogBufferAppender buffer = new TestLogBufferAppender();
+    private Logger logger;
+
+    @BeforeEach
+    void startAppenders() {
+        loggerContext.setMDCAdapter(MDC.getMDCAdapter());
+        start(console, "ASYNC_CONSOLE");
+        start(file, "ASYNC_FILE");
+        buffer.setContext(loggerContext);
+        buffer.setName("TEST_BUFFER");
+        buffer.setCapacity(3);
+        buffer.setFlushLevel("WARN");
+        buffer.addAppender(console);
+        buffer.addAppender(file);
+        buffer.start();
+        logger = loggerContext.getLogger(TestLogBufferAppenderTest.class);
+        logger.addAppender(buffer);
+    }
+
+    @AfterEach
+    void stopAppenders() {
+        TestContext.end();
+        loggerContext.stop();
+    }
+
+    @Test
+    @DisplayName("Should write the buffered events of a failed test to every attached appender")
+    void shouldFlushFailedTest() {
+        String testId = inTest(() -> {
+            logger.info("create pet");
+            logger.debug("request body");
+        });
+
+        assertThat(console.list).isEmpty();
+        TestLogBufferAppender.testFinished(testId, true);
+
+        assertThat(console.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("create pet", "request body");
+        assertThat(file.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("create pet", "request body");
+    }
+
+    @Test
+    @DisplayName("Should drop the buffered events of a passed test below flushLevel")
+    void shouldDiscardPassedTest() {
+        String testId = inTest(() -> logger.info("create pet"));
+
+        TestLogBufferAppender.testFinished(testId, false);
+        TestLogBufferAppender.testFinished(testId, true);
+
+        assertThat(console.list).isEmpty();
+        assertThat(file.list).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should write a passed test that logged at flushLevel, with its earlier events")
+    void shouldFlushPassedTestAtFlushLevel() {
+        String testId = inTest(() -> {
+            logger.info("create pet");
+            logger.warn("retrying");
+        });
+
+        TestLogBufferAppender.testFinished(testId, false);
+
+        assertThat(console.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("create pet", "retrying");
+    }
+
+    @Test
+    @DisplayName("Should keep only the newest capacity events of a test")
+    void shouldEvictOldestOnOverflow() {
+        String testId = inTest(() -> {
+            for (int i = 1; i <= 5; i++) {
+                logger.info("event {}", i);
+            }
+        });
+
+        TestLogBufferAppender.testFinished(testId, true);
+
+        assertThat(console.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("event 3", "event 4", "event 5");
+    }
+
+    @Test
+    @DisplayName("Should keep the flushLevel hit of an event evicted on overflow")
+    void shouldRetainAfterFlushLevelEventEvicted() {
+        String testId = inTest(() -> {
+            logger.error("backend unavailable");
+            for (int i = 1; i <= 3; i++) {
+                logger.info("event {}", i);
+            }
+        });
+
+        TestLogBufferAppender.testFinished(testId, false);
+
+        assertThat(console.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("event 1", "event 2", "event 3");
+    }
+
+    @Test
+    @DisplayName("Should write each test's events as one group, in the order the tests finish")
+    void shouldGroupEventsPerTest() {
+        String first = UUID.randomUUID().toString();
+        String second = UUID.randomUUID().toString();
+        inTest(first, () -> logger.info("first 1"));
+        inTest(second, () -> logger.info("second 1"));
+        inTest(first, () -> logger.info("first 2"));
+
+        TestLogBufferAppender.testFinished(second, true);
+        TestLogBufferAppender.testFinished(first, true);
+
+        assertThat(console.list).extracting(ILoggingEvent::getFormattedMessage)
+                .containsExactly("second 1", "first 1", "first 2");
+    }
+
+    @Test
+    @DisplayName("Should write events logged outside a test immediately")
+    void shouldForwardEventsOutsideTest() {
+        logger.info("suite setup");
+
+        assertThat(console.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly("suite setup");
+    }
+
+    private void start(ListAppender<ILoggingEvent> appender, String name) {
+        appender.setContext(loggerContext);
+        appender.setName(name);
+        appender.start();
+    }
+
+    /**
+     * Run the logging calls bound to a new test id and return the id
+     */
+    private String inTest(Runnable logging) {
+        String testId = UUID.randomUUID().toString();
+        inTest(testId, logging);
+        return testId;
+    }
+
+    private void inTest(String testId, Runnable logging) {
+        TestContext.begin(testId, "TestLogBufferAppenderTest.test");
+        try {
+            logging.run();
+        } finally {
+            TestContext.end();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.petstore.framework.validation;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Schema Validation Filter")
+class SchemaValidationFilterTest {
+
+    private static final String PET = "{\"id\":7,\"name\":\"Rex\",\"photoUrls\":[],\"status\":\"available\"}";
+    private static final String PET_WITHOUT_NAME = "{\"id\":7,\"photoUrls\":[]}";
+
+    private static HttpServer server;
+
+    @BeforeAll
+    static void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", SchemaValidationFilterTest::respond);
+        server.start();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("Should pass a response that matches its endpoint schema")
+    void shouldPassMatchingResponse() {
+        Response response = respondingWith(1.0, PET).get("/pet/{petId}", 7);
+
+        assertThat(response.jsonPath().getString("name")).isEqualTo("Rex");
+    }
+
+    @Test
+    @DisplayName("Should fail a schema mismatch naming the endpoint and the violated field")
+    void shouldFailSchemaMismatch() {
+        assertThatThrownBy(() -> respondingWith(1.0, PET_WITHOUT_NAME).get("/pet/{petId}", 7))
+                .isInstanceOf(SchemaValidationError.class)
+                .hasMessageContaining("Response of GET /pet/{petId} does not match its schema")
+                .hasMessageContaining("name");
+    }
+
+    @Test
+    @DisplayName("Should fail a body that is not JSON")
+    void shouldFailNonJsonBody() {
+        assertThatThrownBy(() -> respondingWith(1.0, "<html>Bad Gateway</html>").get("/pet/{petId}", 7))
+                .isInstanceOf(SchemaValidationError.class)
+                .hasMessageContaining("GET /pet/{petId} returned a body that is not valid JSON");
+    }
+
+    @Test
+    @DisplayName("Should fail an empty body where the endpoint has a schema")
+    void shouldFailEmptyBody() {
+        assertThatThrownBy(() -> respondingWith(1.0, "").get("/pet/{petId}", 7))
+                .isInstanceOf(SchemaValidationError.class)
+                .hasMessageContaining("GET /pet/{petId} returned an empty body");
+    }
+
+    @Test
+    @DisplayName("Should pass any body of an endpoint without a schema")
+    void shouldPassUnmappedEndpoint() {
+        assertThatCode(() -> respondingWith(1.0, "<html/>").post("/pet/{petId}/uploadImage", 7))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should not validate unsuccessful responses")
+    void shouldSkipUnsuccessfulResponse() {
+        Response response = respondingWith(1.0, "{\"message\":\"Pet not found\"}")
+                .header("X-Status", "404")
+                .get("/pet/{petId}", 7);
+
+        assertThat(response.getStatusCode()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("Should validate no response at sample rate 0")
+    void shouldSkipAllAtSampleRateZero() {
+        IntStream.range(0, 20).forEach(i ->
+                assertThatCode(() -> respondingWith(0.0, PET_WITHOUT_NAME).get("/pet/{petId}", 7))
+                        .doesNotThrowAnyException());
+    }
+
+    @Test
+    @DisplayName("Should validate about the sampled fraction of responses")
+    void shouldValidateSampledFraction() {
+        long failed = IntStream.range(0, 200)
+                .filter(i -> {
+                    try {
+                        respondingWith(0.5, PET_WITHOUT_NAME).get("/pet/{petId}", 7);
+                        return false;
+                    } catch (SchemaValidationError e) {
+                        return true;
+                    }
+                })
+                .count();
+
+        // binomial(200, 0.5): outside 60..140 is far below one in a million
+        assertThat(failed).isBetween(60L, 140L);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "[]",
+            "[{\"id\":1}]",
+            "[{\"id\":1,\"name\":\"Rex\",\"photoUrls\":[\"a\"],\"tags\":[],\"status\":\"pending\"}]",
+            "[{\"id\":2,\"category\":{\"foreign\":true},\"status\":\"custom status of another client\"}]"})
+    @DisplayName("Should accept pet lists other clients of the shared backend produce")
+    void shouldAcceptSharedBackendPetList(String body) {
+        assertThatCode(() -> respondingWith(1.0, body).queryParam("status", "available").get("/pet/findByStatus"))
+                .doesNotThrowAnyException();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "{\"id\":1}",
+            "[{\"name\":\"Rex\"}]",
+            "[{\"id\":\"1\"}]",
+            "[{\"id\":1,\"name\":7}]",
+            "[{\"id\":1,\"photoUrls\":\"a\"}]",
+            "[1]"})
+    @DisplayName("Should reject pet lists with missing ids or wrong field types")
+    void shouldRejectMalformedPetList(String body) {
+        assertThatThrownBy(() -> respondingWith(1.0, body).queryParam("status", "available").get("/pet/findByStatus"))
+                .isInstanceOf(SchemaValidationError.class)
+                .hasMessageContaining("GET /pet/findByStatus");
+    }
+
+    /**
+     * Request whose response body the server echoes back from the X-Body header
+     */
+    private static RequestSpecification respondingWith(double sampleRate, String body) {
+        return RestAssured.given()
+                .baseUri("http://127.0.0.1:" + server.getAddress().getPort())
+                .header("X-Body", body)
+                .filter(new SchemaValidationFilter(sampleRate));
+    }
+
+    private static void respond(HttpExchange exchange) throws IOException {
+        String status = exchange.getRequestHeaders().getFirst("X-Status");
+        String body = exchange.getRequestHeaders().getFirst("X-Body");
+        byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status == null ? 200 : Integer.parseInt(status), bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
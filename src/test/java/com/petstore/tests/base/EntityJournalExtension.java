@@ -0,0 +1,44 @@
+package com.petstore.tests.base;
+
+import com.petstore.framework.cleanup.CreatedEntityJournal;
+import com.petstore.framework.cleanup.OrphanSweeper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Sweeps entities orphaned by earlier, killed runs in an environment before the first test class targeting it starts,
+ * and closes this run's created-entity journals once all tests have finished
+ * Target environments without test classes are not swept.
+ */
+@Slf4j
+public class EntityJournalExtension implements BeforeAllCallback {
+
+    private static final String JOURNAL_KEY = "created-entity-journal";
+    private static final String SWEEP_KEY = "orphan-sweep";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        String environment = TestEnvironments.register(context);
+        ExtensionContext.Store store = context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL);
+        store.getOrComputeIfAbsent(JOURNAL_KEY, key -> new RunJournal(), RunJournal.class);
+        store.getOrComputeIfAbsent(SWEEP_KEY + "-" + environment, key -> sweep(environment), Integer.class);
+    }
+
+    private static int sweep(String environment) {
+        int concurrency = Integer.getInteger("entity.journal.sweep.concurrency", 16);
+        int swept = new OrphanSweeper(environment, concurrency).sweep();
+        if (swept > 0) {
+            log.info("Deleted {} entities orphaned by previous runs in environment: {}", swept, environment);
+        }
+        return swept;
+    }
+
+    private static final class RunJournal implements ExtensionContext.Store.CloseableResource {
+
+        @Override
+        public void close() {
+            CreatedEntityJournal.closeAll();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.petstore.tests.base;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Source of {@code Pet}, {@code User} or {@code Order} arguments for a {@code @ParameterizedTest}
+ * Models are produced lazily, one per invocation, either from a seeded generator
+ * (edge cases first, then random data) or from a JSON-lines fixture on the classpath.
+ *
+ * <pre>
+ * &#64;ParameterizedTest
+ * &#64;GeneratedModels(value = Pet.class, count = 1000, seed = 42)
+ * void shouldCreatePet(Pet pet) { ... }
+ * </pre>
+ */
+@Target({ElementType.ANNOTATION_TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@ArgumentsSource(GeneratedModelsProvider.class)
+public @interface GeneratedModels {
+
+    /**
+     * Model type: Pet, User or Order
+     */
+    Class<?> value();
+
+    /**
+     * Number of arguments; for fixtures, the maximum number of records read
+     */
+    int count() default 100;
+
+    /**
+     * Generator seed; 0 picks a random seed, which is logged so a run can be reproduced.
+     * The -Dtest.data.seed system property overrides it for all generated sources.
+     */
+    long seed() default 0;
+
+    /**
+     * Start with the edge cases of the model (every status, long and unicode names, ...)
+     */
+    boolean edgeCases() default true;
+
+    /**
+     * Classpath JSON-lines fixture (one model per line) used instead of the generator
+     * Usernames are suffixed per run, so fixture users do not clash on a shared backend
+     */
+    String fixture() default "";
+}
@@ -0,0 +1,130 @@
+package com.petstore.tests.base;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.petstore.framework.models.Order;
+import com.petstore.framework.models.Pet;
+import com.petstore.framework.models.User;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Lazily streams models for {@link GeneratedModels}
+ * Nothing is materialized up front: each argument is generated (or read from the
+ * fixture) when JUnit pulls the next invocation, so memory stays flat however
+ * many cases are requested.
+ */
+@Slf4j
+public class GeneratedModelsProvider implements ArgumentsProvider, AnnotationConsumer<GeneratedModels> {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private GeneratedModels source;
+
+    @Override
+    public void accept(GeneratedModels source) {
+        this.source = source;
+    }
+
+    @Override
+    public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
+        Stream<?> models = source.fixture().isEmpty()
+                ? generate(context)
+                : readFixture(source.fixture(), source.value()).limit(source.count());
+        return models.map(Arguments::of);
+    }
+
+    private Stream<?> generate(ExtensionContext context) {
+        long seed = Long.getLong("test.data.seed", source.seed() != 0
+                ? source.seed()
+                : ThreadLocalRandom.current().nextLong());
+        log.info("Generating {} {} arguments for {} with seed {}",
+                source.count(), source.value().getSimpleName(), context.getDisplayName(), seed);
+
+        SeededModelGenerator generator = new SeededModelGenerator(seed);
+        IntFunction<Object> model = modelFunction(generator, source.value());
+        return IntStream.range(0, source.count()).mapToObj(model);
+    }
+
+    private IntFunction<Object> modelFunction(SeededModelGenerator generator, Class<?> type) {
+        int edgeCases = source.edgeCases() ? generator.edgeCaseCount(type) : 0;
+        if (type == Pet.class) {
+            return i -> i < edgeCases ? generator.edgeCasePet(i) : generator.randomPet();
+        }
+        if (type == User.class) {
+            return i -> i < edgeCases ? generator.edgeCaseUser(i) : generator.randomUser();
+        }
+        if (type == Order.class) {
+            return i -> i < edgeCases ? generator.edgeCaseOrder(i) : generator.randomOrder();
+        }
+        throw new IllegalArgumentException("Unsupported model type: " + type.getName());
+    }
+
+    private Stream<?> readFixture(String resource, Class<?> type) {
+        InputStream input = getClass().getClassLoader().getResourceAsStream(resource);
+        if (input == null) {
+            throw new IllegalArgumentException("Fixture not found on classpath: " + resource);
+        }
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        String runSuffix = "_" + TestDataFactory.nextId();
+        log.info("Reading {} fixture {} with username suffix {}", type.getSimpleName(), resource, runSuffix);
+        UnaryOperator<Object> fresh = freshKeys(runSuffix);
+        return reader.lines()
+                .filter(line -> !line.isBlank())
+                .map(line -> fresh.apply(parse(line, type)))
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private Object parse(String line, Class<?> type) {
+        try {
+            return MAPPER.readValue(line, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Invalid fixture line: " + line, e);
+        }
+    }
+
+    /**
+     * Fixture records without an id get a unique one, and usernames get the suffix of this read,
+     * so repeated and concurrent runs against a shared backend do not collide
+     */
+    private UnaryOperator<Object> freshKeys(String runSuffix) {
+        return model -> {
+            if (model instanceof Pet && ((Pet) model).getId() == null) {
+                ((Pet) model).setId(TestDataFactory.nextId());
+            } else if (model instanceof User) {
+                User user = (User) model;
+                if (user.getId() == null) {
+                    user.setId(TestDataFactory.nextId());
+                }
+                if (user.getUsername() != null) {
+                    user.setUsername(user.getUsername() + runSuffix);
+                }
+            } else if (model instanceof Order && ((Order) model).getId() == null) {
+                ((Order) model).setId(TestDataFactory.nextId());
+            }
+            return model;
+        };
+    }
+}
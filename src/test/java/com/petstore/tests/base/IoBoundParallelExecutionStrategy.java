@@ -0,0 +1,84 @@
+package com.petstore.tests.base;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * Parallel execution strategy for I/O-bound API tests
+ * Sizes the JUnit worker pool as a multiple of the available processors,
+ * capped by a configurable concurrency ceiling, instead of one worker per core.
+ *
+ * Keys are relative to junit.jupiter.execution.parallel.config.
+ * - io.factor          workers per processor (default 32)
+ * - io.max-concurrency hard ceiling on concurrently running tests (default 256)
+ */
+public class IoBoundParallelExecutionStrategy implements ParallelExecutionConfigurationStrategy {
+
+    static final String FACTOR_KEY = "io.factor";
+    static final String MAX_CONCURRENCY_KEY = "io.max-concurrency";
+
+    private static final double DEFAULT_FACTOR = 32.0;
+    private static final int DEFAULT_MAX_CONCURRENCY = 256;
+    private static final int KEEP_ALIVE_SECONDS = 30;
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters parameters) {
+        double factor = parameters.get(FACTOR_KEY, Double::parseDouble).orElse(DEFAULT_FACTOR);
+        int ceiling = parameters.get(MAX_CONCURRENCY_KEY, Integer::parseInt).orElse(DEFAULT_MAX_CONCURRENCY);
+        if (factor <= 0 || ceiling <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "%s and %s must be positive, were %s and %s", FACTOR_KEY, MAX_CONCURRENCY_KEY, factor, ceiling));
+        }
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        int parallelism = Math.max(1, Math.min(ceiling, (int) Math.ceil(processors * factor)));
+        return new IoBoundConfiguration(parallelism);
+    }
+
+    /**
+     * Fixed-size pool: tests block on sockets rather than CPU, so the pool is
+     * never grown past the ceiling to compensate for blocked workers
+     */
+    private static final class IoBoundConfiguration implements ParallelExecutionConfiguration {
+
+        private final int parallelism;
+
+        private IoBoundConfiguration(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        @Override
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        @Override
+        public int getMinimumRunnable() {
+            return 1;
+        }
+
+        @Override
+        public int getMaxPoolSize() {
+            return parallelism;
+        }
+
+        @Override
+        public int getCorePoolSize() {
+            return parallelism;
+        }
+
+        @Override
+        public int getKeepAliveSeconds() {
+            return KEEP_ALIVE_SECONDS;
+        }
+
+        @Override
+        public Predicate<? super ForkJoinPool> getSaturatePredicate() {
+            return pool -> true;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.petstore.tests.base;
+
+import com.petstore.framework.metrics.ApiMetrics;
+import com.petstore.framework.metrics.LatencyBaseline;
+import com.petstore.framework.metrics.LatencyGateReport;
+import com.petstore.framework.metrics.LatencyRegressionGate;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Checks per-endpoint latencies against the stored baseline once all tests have finished
+ * Enabled with -Dperf.gate=true; a significant regression fails the run.
+ * -Dperf.baseline.update=true writes this run's latencies to the baseline instead.
+ * Each environment that ran test classes has its own baseline, perf-baseline/latency-{env}.json
+ * (directory: -Dperf.baseline.dir).
+ */
+@Slf4j
+public class LatencyGateExtension implements BeforeAllCallback {
+
+    private static final String GATE_KEY = "latency-regression-gate";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        if (!Boolean.getBoolean("perf.gate") && !Boolean.getBoolean("perf.baseline.update")) {
+            return;
+        }
+        TestEnvironments.register(context);
+        context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(GATE_KEY, key -> new GateCheck(TestEnvironments.tested(context)), GateCheck.class);
+    }
+
+    private static final class GateCheck implements ExtensionContext.Store.CloseableResource {
+
+        private final Path baselineDir = Paths.get(System.getProperty("perf.baseline.dir", "perf-baseline"));
+        private final Set<String> environments;
+
+        private GateCheck(Set<String> environments) {
+            this.environments = environments;
+        }
+
+        @Override
+        public void close() {
+            List<String> failures = new ArrayList<>();
+            for (String environment : environments) {
+                check(environment, failures);
+            }
+            if (!failures.isEmpty()) {
+                throw new AssertionError(String.join("\n", failures));
+            }
+        }
+
+        private void check(String environment, List<String> failures) {
+            ApiMetrics metrics = ApiMetrics.forEnvironment(environment);
+            Path baselineFile = baselineDir.resolve("latency-" + environment + ".json");
+            LatencyBaseline baseline = LatencyBaseline.load(baselineFile);
+
+            if (Boolean.getBoolean("perf.baseline.update")) {
+                baseline.mergedWith(metrics).save(baselineFile);
+                log.info("Latency baseline updated: {}", baselineFile.toAbsolutePath());
+                return;
+            }
+            if (baseline.isEmpty()) {
+                log.warn("No latency baseline at {}, skipping the latency gate", baselineFile.toAbsolutePath());
+                return;
+            }
+
+            LatencyGateReport report = LatencyRegressionGate.fromSystemProperties().compare(metrics, baseline);
+            log.info("[{}] {}", environment, report.summary());
+            if (!report.isPassed()) {
+                failures.add("Latency regression in " + environment + " against " + baselineFile + ":\n"
+                        + report.summary());
+            }
+        }
+    }
+}
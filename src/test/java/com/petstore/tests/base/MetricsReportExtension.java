@@ -0,0 +1,42 @@
+package com.petstore.tests.base;
+
+import com.petstore.framework.metrics.ApiMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Set;
+
+/**
+ * Logs the per-endpoint API metrics of every environment that ran test classes once, after the whole test run
+ * The report is bound to the root context store, which JUnit closes at the end of the run
+ */
+@Slf4j
+public class MetricsReportExtension implements BeforeAllCallback {
+
+    private static final String REPORT_KEY = "api-metrics-report";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        TestEnvironments.register(context);
+        context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(REPORT_KEY, key -> new MetricsReport(TestEnvironments.tested(context)),
+                        MetricsReport.class);
+    }
+
+    private static final class MetricsReport implements ExtensionContext.Store.CloseableResource {
+
+        private final Set<String> environments;
+
+        private MetricsReport(Set<String> environments) {
+            this.environments = environments;
+        }
+
+        @Override
+        public void close() {
+            for (String environment : environments) {
+                log.info(ApiMetrics.forEnvironment(environment).summary());
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.petstore.tests.base;
+
+import com.github.javafaker.Faker;
+import com.petstore.framework.models.Category;
+import com.petstore.framework.models.Order;
+import com.petstore.framework.models.Pet;
+import com.petstore.framework.models.Tag;
+import com.petstore.framework.models.User;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproducible model generator for data-driven tests
+ * Field values depend only on the seed; ids still come from {@link TestDataFactory#nextId()}
+ * so that the same seed can be replayed against a shared environment without collisions.
+ * Not thread-safe: one instance per argument stream.
+ */
+public class SeededModelGenerator {
+
+    private static final List<String> PET_STATUSES = List.of("available", "pending", "sold");
+    private static final List<String> ORDER_STATUSES = List.of("placed", "approved", "delivered");
+    private static final String UNICODE_NAME = "Şükrü 猫 Ñandú 🐾";
+
+    private final Random random;
+    private final Faker faker;
+
+    public SeededModelGenerator(long seed) {
+        this.random = new Random(seed);
+        this.faker = new Faker(random);
+    }
+
+    /**
+     * Number of edge cases defined for the given model type
+     */
+    public int edgeCaseCount(Class<?> type) {
+        if (type == Pet.class) {
+            return PET_STATUSES.size() + 3;
+        }
+        if (type == Order.class) {
+            return ORDER_STATUSES.size() + 2;
+        }
+        if (type == User.class) {
+            return 3;
+        }
+        return 0;
+    }
+
+    /**
+     * Random Pet with every field populated
+     */
+    public Pet randomPet() {
+        return Pet.builder()
+                .id(TestDataFactory.nextId())
+                .name(faker.animal().name())
+                .status(pick(PET_STATUSES))
+                .category(Category.builder()
+                        .id((long) faker.number().numberBetween(1, 100))
+                        .name(faker.commerce().department())
+                        .build())
+                .photoUrls(Collections.singletonList(faker.internet().url()))
+                .tags(Collections.singletonList(Tag.builder()
+                        .id((long) faker.number().numberBetween(1, 100))
+                        .name(faker.lorem().word())
+                        .build()))
+                .build();
+    }
+
+    /**
+     * Pet edge cases: every status, then a 255-char name, a unicode name and empty lists
+     */
+    public Pet edgeCasePet(int index) {
+        Pet pet = randomPet();
+        if (index < PET_STATUSES.size()) {
+            pet.setStatus(PET_STATUSES.get(index));
+            return pet;
+        }
+        switch (index - PET_STATUSES.size()) {
+            case 0:
+                pet.setName("p".repeat(255));
+                break;
+            case 1:
+                pet.setName(UNICODE_NAME);
+                break;
+            default:
+                pet.setPhotoUrls(Collections.emptyList());
+                pet.setTags(Collections.emptyList());
+                break;
+        }
+        return pet;
+    }
+
+    /**
+     * Random Order for a random pet id
+     */
+    public Order randomOrder() {
+        return Order.builder()
+                .id(TestDataFactory.nextId())
+                .petId((long) faker.number().numberBetween(1, 1000))
+                .quantity(faker.number().numberBetween(1, 10))
+                .shipDate("2024-12-31T00:00:00.000+0000")
+                .status(pick(ORDER_STATUSES))
+                .complete(random.nextBoolean())
+                .build();
+    }
+
+    /**
+     * Order edge cases: every status, then quantity extremes
+     */
+    public Order edgeCaseOrder(int index) {
+        Order order = randomOrder();
+        if (index < ORDER_STATUSES.size()) {
+            order.setStatus(ORDER_STATUSES.get(index));
+            order.setComplete(false);
+            return order;
+        }
+        order.setQuantity(index == ORDER_STATUSES.size() ? 1 : Integer.MAX_VALUE);
+        return order;
+    }
+
+    /**
+     * Random User; the username is suffixed with its id to stay unique
+     */
+    public User randomUser() {
+        long id = TestDataFactory.nextId();
+        return User.builder()
+                .id(id)
+                .username(faker.name().username() + id)
+                .firstName(faker.name().firstName())
+                .lastName(faker.name().lastName())
+                .email(faker.internet().emailAddress())
+                .password(faker.internet().password())
+                .phone(faker.phoneNumber().phoneNumber())
+                .userStatus(1)
+                .build();
+    }
+
+    /**
+     * User edge cases: unicode names, a long username and userStatus 0
+     */
+    public User edgeCaseUser(int index) {
+        User user = randomUser();
+        switch (index) {
+            case 0:
+                user.setFirstName(UNICODE_NAME);
+                user.setLastName("Öztürk-O'Connor");
+                break;
+            case 1:
+                user.setUsername("u".repeat(200) + user.getId());
+                break;
+            default:
+                user.setUserStatus(0);
+                break;
+        }
+        return user;
+    }
+
+    private String pick(List<String> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
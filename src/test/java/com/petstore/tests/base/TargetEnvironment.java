@@ -0,0 +1,35 @@
+package com.petstore.tests.base;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a test class to one environment instead of the default (-Denv)
+ * Re-run an existing suite against another environment in the same JVM with a subclass:
+ *
+ * <pre>
+ * &#64;TargetEnvironment("stage")
+ * class StagePetCrudTest extends PetCrudTest {
+ * }
+ * </pre>
+ *
+ * The class runs only when its environment is targeted, i.e. it is -Denv or listed in -Denvs.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@ExtendWith(TargetEnvironmentCondition.class)
+public @interface TargetEnvironment {
+
+    /**
+     * Environment name, i.e. the config/{name}.properties file
+     */
+    String value();
+}
@@ -0,0 +1,23 @@
+package com.petstore.tests.base;
+
+import com.petstore.framework.config.ConfigManager;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * Skips {@link TargetEnvironment} classes whose environment is not targeted by this run
+ */
+public class TargetEnvironmentCondition implements ExecutionCondition {
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        return context.getTestClass()
+                .flatMap(testClass -> AnnotationSupport.findAnnotation(testClass, TargetEnvironment.class))
+                .map(target -> ConfigManager.getTargetEnvironments().contains(target.value())
+                        ? ConditionEvaluationResult.enabled("Environment targeted: " + target.value())
+                        : ConditionEvaluationResult.disabled("Environment not targeted (-Denvs): " + target.value()))
+                .orElse(ConditionEvaluationResult.enabled("Default environment"));
+    }
+}
@@ -8,6 +8,7 @@ import com.petstore.framework.models.Tag;
 import com.petstore.framework.models.User;
 
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Test Data Factory using Builder pattern and JavaFaker
@@ -17,12 +18,25 @@ public class TestDataFactory {
 
     private static final Faker faker = new Faker();
 
+    /**
+     * Millisecond timestamps collide when hundreds of tests run at once,
+     * so ids come from a counter seeded with the start time
+     */
+    private static final AtomicLong idSequence = new AtomicLong(System.currentTimeMillis());
+
+    /**
+     * Next unique id for this JVM
+     */
+    public static long nextId() {
+        return idSequence.incrementAndGet();
+    }
+
     /**
      * Create a random Pet with all fields populated
      */
     public static Pet createRandomPet() {
         return Pet.builder()
-                .id(System.currentTimeMillis())
+                .id(nextId())
                 .name(faker.animal().name())
                 .status("available")
                 .category(createRandomCategory())
@@ -45,7 +59,7 @@ public class TestDataFactory {
      */
     public static Pet createMinimalPet() {
         return Pet.builder()
-                .id(System.currentTimeMillis())
+                .id(nextId())
                 .name(faker.animal().name())
                 .photoUrls(Collections.singletonList("http://example.com/photo.jpg"))
                 .build();
@@ -76,7 +90,7 @@ public class TestDataFactory {
      */
     public static Order createRandomOrder() {
         return Order.builder()
-                .id(System.currentTimeMillis())
+                .id(nextId())
                 .petId((long) faker.number().numberBetween(1, 1000))
                 .quantity(faker.number().numberBetween(1, 10))
                 .shipDate("2024-12-31T00:00:00.000+0000")
@@ -99,8 +113,8 @@ public class TestDataFactory {
      */
     public static User createRandomUser() {
         return User.builder()
-                .id(System.currentTimeMillis())
-                .username(faker.name().username() + System.currentTimeMillis())
+                .id(nextId())
+                .username(faker.name().username() + nextId())
                 .firstName(faker.name().firstName())
                 .lastName(faker.name().lastName())
                 .email(faker.internet().emailAddress())
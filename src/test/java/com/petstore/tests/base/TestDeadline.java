@@ -0,0 +1,23 @@
+package com.petstore.tests.base;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Deadline for the API calls of a test method, as an ISO-8601 duration (e.g. "PT10S")
+ * Unlike JUnit's @Timeout, which only interrupts the test thread, requests still in flight
+ * when the deadline passes are cancelled and their connections closed. On a class, applies
+ * to every test method; -Dtest.deadline sets the default for all tests.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface TestDeadline {
+
+    String value();
+}
@@ -0,0 +1,64 @@
+package com.petstore.tests.base;
+
+import com.petstore.framework.deadline.Deadline;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Runs each test method under its {@link TestDeadline}
+ * Only the test method is bounded; setup and cleanup run without a deadline.
+ * Work the test hands to other threads keeps the deadline via Deadline.propagate or ScenarioRunner.
+ */
+public class TestDeadlineExtension implements InvocationInterceptor {
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation,
+            ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext) throws Throwable {
+        proceedWithinDeadline(invocation, extensionContext);
+    }
+
+    @Override
+    public void interceptTestTemplateMethod(Invocation<Void> invocation,
+            ReflectiveInvocationContext<Method> invocationContext,
+            ExtensionContext extensionContext) throws Throwable {
+        proceedWithinDeadline(invocation, extensionContext);
+    }
+
+    private void proceedWithinDeadline(Invocation<Void> invocation, ExtensionContext context) throws Throwable {
+        Optional<Duration> timeout = resolveTimeout(context);
+        if (timeout.isEmpty()) {
+            invocation.proceed();
+            return;
+        }
+
+        Throwable[] failure = new Throwable[1];
+        Deadline.call(Deadline.after(timeout.get()), () -> {
+            try {
+                invocation.proceed();
+            } catch (Throwable t) {
+                failure[0] = t;
+            }
+            return null;
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+
+    private Optional<Duration> resolveTimeout(ExtensionContext context) {
+        Optional<TestDeadline> annotation = context.getTestMethod()
+                .flatMap(method -> AnnotationSupport.findAnnotation(method, TestDeadline.class))
+                .or(() -> context.getTestClass()
+                        .flatMap(testClass -> AnnotationSupport.findAnnotation(testClass, TestDeadline.class)));
+        return annotation.map(TestDeadline::value)
+                .or(() -> Optional.ofNullable(System.getProperty("test.deadline")))
+                .map(Duration::parse);
+    }
+}
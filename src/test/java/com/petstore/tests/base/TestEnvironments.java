@@ -0,0 +1,48 @@
+package com.petstore.tests.base;
+
+import com.petstore.framework.config.ConfigManager;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Environments that test classes of this run actually target
+ * A targeted environment (-Denvs) without any test class gets no warm-up, orphan sweep,
+ * metrics report or latency gate: nothing would be measured there, only load added.
+ */
+final class TestEnvironments {
+
+    private static final String TESTED_KEY = "tested-environments";
+
+    private TestEnvironments() {
+    }
+
+    /**
+     * The class's {@link TargetEnvironment}, or the default environment (-Denv)
+     */
+    static String of(Class<?> testClass) {
+        return AnnotationSupport.findAnnotation(testClass, TargetEnvironment.class)
+                .map(TargetEnvironment::value)
+                .orElseGet(() -> ConfigManager.getInstance().getEnvironment());
+    }
+
+    /**
+     * Record the environment of the starting test class and return it
+     */
+    static String register(ExtensionContext context) {
+        String environment = of(context.getRequiredTestClass());
+        tested(context).add(environment);
+        return environment;
+    }
+
+    /**
+     * Live view of the environments registered so far; read it once all tests have finished
+     */
+    @SuppressWarnings("unchecked")
+    static Set<String> tested(ExtensionContext context) {
+        return context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(TESTED_KEY, key -> ConcurrentHashMap.newKeySet(), Set.class);
+    }
+}
@@ -0,0 +1,53 @@
+package com.petstore.tests.base;
+
+import com.petstore.framework.utils.TestContext;
+import com.petstore.framework.utils.TestLogBufferAppender;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestWatcher;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+/**
+ * Binds each test to its thread's logging context and decides, once the test
+ * has finished, whether its buffered log events are written out or dropped
+ */
+public class TestLogExtension implements BeforeEachCallback, TestWatcher {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        TestContext.begin(context.getUniqueId(), testName(context));
+    }
+
+    @Override
+    public void testSuccessful(ExtensionContext context) {
+        finish(context, false);
+    }
+
+    @Override
+    public void testAborted(ExtensionContext context, Throwable cause) {
+        finish(context, false);
+    }
+
+    @Override
+    public void testFailed(ExtensionContext context, Throwable cause) {
+        finish(context, true);
+    }
+
+    @Override
+    public void testDisabled(ExtensionContext context, Optional<String> reason) {
+        // Never started, nothing buffered
+    }
+
+    private void finish(ExtensionContext context, boolean failed) {
+        TestLogBufferAppender.testFinished(context.getUniqueId(), failed);
+        TestContext.end();
+    }
+
+    private static String testName(ExtensionContext context) {
+        String className = context.getTestClass().map(Class::getSimpleName).orElse("");
+        String methodName = context.getTestMethod().map(Method::getName).orElse(context.getDisplayName());
+        return className + "." + methodName;
+    }
+}
@@ -0,0 +1,132 @@
+package com.petstore.tests.base;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.petstore.framework.utils.TestContext;
+import com.petstore.framework.utils.TestLogBufferAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.MDC;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Test Log Extension")
+class TestLogExtensionTest {
+
+    private final TestLogExtension extension = new TestLogExtension();
+    private final LoggerContext loggerContext = new LoggerContext();
+    private final ListAppender<ILoggingEvent> output = new ListAppender<>();
+    private Logger logger;
+
+    @BeforeEach
+    void startAppenders() {
+        loggerContext.setMDCAdapter(MDC.getMDCAdapter());
+        output.setContext(loggerContext);
+        output.setName("ASYNC_CONSOLE");
+        output.start();
+        TestLogBufferAppender buffer = new TestLogBufferAppender();
+        buffer.setContext(loggerContext);
+        buffer.addAppender(output);
+        buffer.start();
+        logger = loggerContext.getLogger(TestLogExtensionTest.class);
+        logger.addAppender(buffer);
+    }
+
+    @AfterEach
+    void stopAppenders() {
+        TestContext.end();
+        loggerContext.stop();
+    }
+
+    @Test
+    @DisplayName("Should bind the test's unique id and class.method name to the MDC")
+    void shouldBindTestToMdc() throws NoSuchMethodException {
+        ExtensionContext context = testContext("shouldBindTestToMdc");
+
+        extension.beforeEach(context);
+
+        assertThat(TestContext.currentId()).isEqualTo(context.getUniqueId());
+        assertThat(TestContext.currentName()).isEqualTo("TestLogExtensionTest.shouldBindTestToMdc");
+    }
+
+    @Test
+    @DisplayName("Should write the buffered events of a failed test and clear the MDC")
+    void shouldFlushFailedTest() throws NoSuchMethodException {
+        ExtensionContext context = testContext("shouldFlushFailedTest");
+
+        extension.beforeEach(context);
+        logger.info("create pet");
+        extension.testFailed(context, new AssertionError("expected 200"));
+
+        assertThat(output.list).singleElement().satisfies(event -> {
+            assertThat(event.getFormattedMessage()).isEqualTo("create pet");
+            assertThat(event.getMDCPropertyMap()).containsEntry(TestContext.TEST_ID_KEY, context.getUniqueId());
+        });
+        assertThat(TestContext.currentId()).isNull();
+        assertThat(TestContext.currentName()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should drop the buffered events of a passed or aborted test and clear the MDC")
+    void shouldDiscardPassedAndAbortedTests() throws NoSuchMethodException {
+        ExtensionContext passed = testContext("shouldDiscardPassedAndAbortedTests");
+        ExtensionContext aborted = testContext("shouldDiscardPassedAndAbortedTests");
+
+        extension.beforeEach(passed);
+        logger.info("create pet");
+        extension.testSuccessful(passed);
+        assertThat(TestContext.currentId()).isNull();
+
+        extension.beforeEach(aborted);
+        logger.info("find pet");
+        extension.testAborted(aborted, new IllegalStateException("assumption failed"));
+
+        assertThat(output.list).isEmpty();
+        assertThat(TestContext.currentId()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should not leak one test's MDC into the events of the next test on the same thread")
+    void shouldNotLeakMdcBetweenTests() throws NoSuchMethodException {
+        ExtensionContext first = testContext("shouldNotLeakMdcBetweenTests");
+        ExtensionContext second = testContext("shouldNotLeakMdcBetweenTests");
+
+        extension.beforeEach(first);
+        logger.info("first");
+        extension.testSuccessful(first);
+        logger.info("between tests");
+        extension.beforeEach(second);
+        logger.info("second");
+        extension.testFailed(second, new AssertionError("expected 200"));
+
+        assertThat(output.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly("between tests", "second");
+        assertThat(output.list.get(0).getMDCPropertyMap()).doesNotContainKey(TestContext.TEST_ID_KEY);
+        assertThat(output.list.get(1).getMDCPropertyMap()).containsEntry(TestContext.TEST_ID_KEY, second.getUniqueId());
+    }
+
+    /**
+     * Extension context of a test method of this class with a fresh unique id
+     */
+    private static ExtensionContext testContext(String methodName) throws NoSuchMethodException {
+        String uniqueId = "[engine:junit-jupiter]/[test:" + methodName + "-" + UUID.randomUUID() + "]";
+        Method method = TestLogExtensionTest.class.getDeclaredMethod(methodName);
+        return (ExtensionContext) Proxy.newProxyInstance(ExtensionContext.class.getClassLoader(),
+                new Class<?>[]{ExtensionContext.class}, (proxy, invoked, args) -> switch (invoked.getName()) {
+                    case "getUniqueId" -> uniqueId;
+                    case "getDisplayName" -> methodName;
+                    case "getTestClass" -> Optional.of(TestLogExtensionTest.class);
+                    case "getTestMethod" -> Optional.of(method);
+                    default -> throw new UnsupportedOperationException(invoked.getName());
+                });
+    }
+}
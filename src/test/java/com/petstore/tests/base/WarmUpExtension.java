@@ -0,0 +1,26 @@
+package com.petstore.tests.base;
+
+import com.petstore.framework.config.ConfigManager;
+import com.petstore.framework.services.ServiceWarmUp;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Runs the service warm-up of an environment once, before the first test class targeting it starts
+ * Parallel test classes of that environment block on the root store until the warm-up has finished,
+ * so no measured call races the cold start. Target environments without test classes are not warmed up.
+ */
+public class WarmUpExtension implements BeforeAllCallback {
+
+    private static final String WARM_UP_KEY = "service-warm-up";
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        String environment = TestEnvironments.register(context);
+        context.getRoot().getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(WARM_UP_KEY + "-" + environment, key -> {
+                    ServiceWarmUp.forConfig(ConfigManager.forEnvironment(environment)).run();
+                    return Boolean.TRUE;
+                }, Boolean.class);
+    }
+}
@@ -1,7 +1,9 @@
 package com.petstore.tests.pet;
 
+import com.petstore.framework.deadline.DeadlineExceededException;
 import com.petstore.framework.models.Pet;
 import com.petstore.tests.base.BaseTest;
+import com.petstore.tests.base.GeneratedModels;
 import com.petstore.tests.base.TestDataFactory;
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
@@ -10,8 +12,12 @@ import io.qameta.allure.SeverityLevel;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Feature("Pet API")
 @DisplayName("Pet CRUD Operations")
@@ -125,4 +131,34 @@ public class PetCrudTest extends BaseTest {
         assertThat(response.getStatusCode()).isEqualTo(200);
         assertThat(response.jsonPath().getList("$")).isNotEmpty();
     }
+
+    @Test
+    @DisplayName("Should refuse a request whose deadline has passed")
+    @Description("Verify that a call with an expired deadline fails fast instead of reaching the backend")
+    @Severity(SeverityLevel.NORMAL)
+    public void shouldRefuseRequestPastItsDeadline() {
+        // Act & Assert
+        assertThatThrownBy(() -> petService.getPetById(TestDataFactory.nextId(), Duration.ZERO))
+                .isInstanceOf(DeadlineExceededException.class);
+    }
+
+    @ParameterizedTest(name = "{displayName} [{index}]")
+    @GeneratedModels(value = Pet.class, count = 12, seed = 42)
+    @DisplayName("Should create generated pets, edge cases included")
+    @Description("Verify pet creation across every status, long and unicode names and empty lists")
+    @Severity(SeverityLevel.NORMAL)
+    public void shouldCreateGeneratedPet(Pet newPet) {
+        // Act
+        Response response = petService.createPet(newPet);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(200);
+
+        Pet createdPet = response.as(Pet.class);
+        assertThat(createdPet.getName()).isEqualTo(newPet.getName());
+        assertThat(createdPet.getStatus()).isEqualTo(newPet.getStatus());
+
+        // Track for cleanup
+        trackPetForCleanup(createdPet.getId());
+    }
 }
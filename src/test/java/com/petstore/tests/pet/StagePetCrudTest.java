@@ -0,0 +1,14 @@
+package com.petstore.tests.pet;
+
+import com.petstore.tests.base.TargetEnvironment;
+import io.qameta.allure.Feature;
+import org.junit.jupiter.api.DisplayName;
+
+/**
+ * Pet CRUD suite against stage, run in the same JVM as the default environment with -Denvs=stage
+ */
+@Feature("Pet API")
+@DisplayName("Pet CRUD Operations [stage]")
+@TargetEnvironment("stage")
+public class StagePetCrudTest extends PetCrudTest {
+}
@@ -1,6 +1,13 @@
 package com.petstore.tests.store;
 
+import com.petstore.framework.config.ConfigManager;
+import com.petstore.framework.inventory.InventoryEstimator;
+import com.petstore.framework.inventory.StoreInventory;
 import com.petstore.framework.models.Order;
+import com.petstore.framework.models.Pet;
+import com.petstore.framework.scenario.Scenario;
+import com.petstore.framework.scenario.ScenarioReport;
+import com.petstore.framework.scenario.ScenarioRunner;
 import com.petstore.tests.base.BaseTest;
 import com.petstore.tests.base.TestDataFactory;
 import io.qameta.allure.Description;
@@ -10,8 +17,13 @@ import io.qameta.allure.SeverityLevel;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.parallel.Resources;
+
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
 
 @Feature("Store API")
 @DisplayName("Order Management")
@@ -93,4 +105,69 @@ public class OrderManagementTest extends BaseTest {
         assertThat(response.getStatusCode()).isEqualTo(200);
         assertThat(response.jsonPath().getMap("$")).isNotEmpty();
     }
+
+    @Test
+    // Compares whole-inventory counts, so no other test of this run may save pets meanwhile
+    @ResourceLock(Resources.GLOBAL)
+    @DisplayName("Should estimate the inventory without polling it")
+    @Description("Verify that the client-side inventory estimate follows this run's pet calls and matches a fresh snapshot")
+    @Severity(SeverityLevel.NORMAL)
+    public void shouldEstimateInventoryWithoutPolling() {
+        // Arrange
+        InventoryEstimator estimator = InventoryEstimator.forEnvironment(environment);
+        StoreInventory before = storeService.getInventorySnapshot();
+
+        // Act
+        Pet first = TestDataFactory.createPetWithStatus(StoreInventory.PENDING);
+        Pet second = TestDataFactory.createPetWithStatus(StoreInventory.PENDING);
+        trackPetForCleanup(petService.createPet(first).as(Pet.class).getId());
+        trackPetForCleanup(petService.createPet(second).as(Pet.class).getId());
+        second.setStatus(StoreInventory.SOLD);
+        petService.updatePet(second);
+        StoreInventory estimated = estimator.estimate();
+
+        // Assert
+        assertThat(estimated.minus(before)).isEqualTo(StoreInventory.builder()
+                .add(StoreInventory.PENDING, 1)
+                .add(StoreInventory.SOLD, 1)
+                .build());
+
+        // Other clients of a shared backend change the counts too
+        assumeFalse(ConfigManager.forEnvironment(environment).isBackendShared(),
+                "backend.shared=true, not comparing the estimate with the backend's inventory");
+        assertThat(storeService.getInventorySnapshot()).isEqualTo(estimated);
+    }
+
+    @Test
+    @DisplayName("Should run the order lifecycle scenario concurrently")
+    @Description("Verify that create pet, place, get and delete order, delete pet succeeds for many concurrent instances")
+    @Severity(SeverityLevel.NORMAL)
+    public void shouldRunOrderLifecycleScenario() {
+        // Arrange
+        Scenario orderLifecycle = Scenario.named("order-lifecycle")
+                .step("createPet", ctx -> petService.createPet(TestDataFactory.createRandomPet()))
+                .expectStatus(200)
+                .step("placeOrder", List.of("createPet"), ctx -> storeService.placeOrder(
+                        TestDataFactory.createOrderForPet(ctx.response("createPet").as(Pet.class).getId())))
+                .expectStatus(200)
+                .step("getOrder", List.of("placeOrder"), ctx -> storeService.getOrderById(
+                        ctx.response("placeOrder").as(Order.class).getId()))
+                .expectStatus(200)
+                .cleanupStep("deleteOrder", List.of("getOrder"), ctx -> ctx.succeeded("placeOrder")
+                        ? storeService.deleteOrder(ctx.response("placeOrder").as(Order.class).getId())
+                        : null)
+                .expectStatus(200)
+                .cleanupStep("deletePet", List.of("deleteOrder"), ctx -> ctx.succeeded("createPet")
+                        ? petService.deletePet(ctx.response("createPet").as(Pet.class).getId())
+                        : null)
+                .expectStatus(200)
+                .build();
+
+        // Act
+        ScenarioReport report = new ScenarioRunner(8).run(orderLifecycle, 20);
+
+        // Assert
+        assertThat(report.getInstances()).isEqualTo(20);
+        assertThat(report.getFailedInstanceCount()).isZero();
+    }
 }
@@ -1,7 +1,10 @@
 package com.petstore.tests.user;
 
 import com.petstore.framework.models.User;
+import com.petstore.framework.services.UserService;
+import com.petstore.framework.session.UserSession;
 import com.petstore.tests.base.BaseTest;
+import com.petstore.tests.base.GeneratedModels;
 import com.petstore.tests.base.TestDataFactory;
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
@@ -10,6 +13,13 @@ import io.qameta.allure.SeverityLevel;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -115,6 +125,41 @@ public class UserManagementTest extends BaseTest {
         assertThat(response.getBody().asString()).contains("logged in");
     }
 
+    @Test
+    @DisplayName("Should share one cached session across concurrent callers")
+    @Description("Verify that concurrent session requests for a user trigger a single login and logout invalidates it")
+    @Severity(SeverityLevel.NORMAL)
+    public void shouldShareCachedSessionAcrossConcurrentCallers() throws Exception {
+        // Arrange - Create a user first
+        User newUser = TestDataFactory.createRandomUser();
+        userService.createUser(newUser);
+        trackUserForCleanup(newUser.getUsername());
+
+        // Act - Eight callers ask for the same session at once
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<UserSession>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> UserService.forEnvironment(environment)
+                        .getSession(newUser.getUsername(), newUser.getPassword())));
+            }
+            UserSession first = futures.get(0).get();
+
+            // Assert
+            assertThat(first.getToken()).isNotBlank();
+            for (Future<UserSession> future : futures) {
+                assertThat(future.get()).isSameAs(first);
+            }
+
+            UserSession cached = userService.getSession(newUser.getUsername(), newUser.getPassword());
+            assertThat(cached).isSameAs(first);
+            userService.logout();
+            assertThat(userService.getSession(newUser.getUsername(), newUser.getPassword())).isNotSameAs(first);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     @DisplayName("Should logout user successfully")
     @Description("Verify that a user can logout")
@@ -126,4 +171,20 @@ public class UserManagementTest extends BaseTest {
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(200);
     }
+
+    @ParameterizedTest(name = "{displayName} [{index}]")
+    @GeneratedModels(value = User.class, fixture = "data/users.jsonl")
+    @DisplayName("Should create users from the fixture file")
+    @Description("Verify user creation for every record of a JSON-lines fixture")
+    @Severity(SeverityLevel.NORMAL)
+    public void shouldCreateUserFromFixture(User newUser) {
+        // Act
+        Response response = userService.createUser(newUser);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(200);
+
+        // Track for cleanup
+        trackUserForCleanup(newUser.getUsername());
+    }
 }